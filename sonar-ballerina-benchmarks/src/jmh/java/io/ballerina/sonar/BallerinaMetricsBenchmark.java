@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-file passes of the {@link BallerinaMetricsSensor} on a 1 MiB synthetic source, so that the
+ * reported throughput in operations per second is the throughput in MiB per second.
+ *
+ * @since 0.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BallerinaMetricsBenchmark {
+    private static final int SOURCE_SIZE = 1024 * 1024;
+    private static final String SOURCE_SNIPPET = """
+            # Returns the total of the given orders.
+            #
+            # + orders - orders to sum
+            # + return - the total, or an error if an order is invalid
+            public isolated function total(Order[] orders) returns decimal|error {
+                decimal total = 0.0d;
+                foreach Order 'order in orders {
+                    if 'order.quantity <= 0 {
+                        return error(string `Invalid quantity ${'order.quantity} for ${'order.id}`);
+                    }
+                    total += 'order.price * <decimal>'order.quantity; // price is per unit
+                }
+                log:printInfo("Computed the total", total = total, count = orders.length());
+                return total;
+            }
+
+            """;
+
+    private String source;
+
+    @Setup
+    public void setUpSource() {
+        source = SOURCE_SNIPPET.repeat(SOURCE_SIZE / SOURCE_SNIPPET.length() + 1).substring(0, SOURCE_SIZE);
+    }
+
+    @Benchmark
+    public int tokenize() {
+        return CpdTokens.tokenize(source).size();
+    }
+
+    @Benchmark
+    public int lineMetrics() {
+        return LineMetrics.of(source).linesOfCode();
+    }
+}
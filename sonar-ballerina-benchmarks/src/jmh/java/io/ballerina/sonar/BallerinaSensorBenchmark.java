@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.sonar.api.config.internal.MapSettings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the issue reporting phase of the {@link BallerinaSensor} on synthetic reports.
+ *
+ * @since 0.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BallerinaSensorBenchmark {
+    private static final int FILE_COUNT = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int issueCount;
+
+    private Path projectDir;
+    private Map<String, InputFile> pathAndInputFiles;
+    private JsonArray report;
+    private String reportContent;
+    private BallerinaSensor sensor;
+    private SensorContextTester context;
+
+    @Setup(Level.Trial)
+    public void setUpReport() throws IOException {
+        projectDir = Files.createTempDirectory("ballerina-benchmark");
+        pathAndInputFiles = SyntheticProject.inputFiles(projectDir, FILE_COUNT);
+        report = SyntheticProject.report(new ArrayList<>(pathAndInputFiles.keySet()), issueCount);
+        reportContent = report.toString();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpContext() {
+        context = SensorContextTester.create(projectDir);
+        sensor = new BallerinaSensor(new BallerinaLanguage(new MapSettings().asConfig()));
+    }
+
+    @Benchmark
+    public boolean reportAnalysisIssues() {
+        return sensor.reportAnalysisIssues(context, report, pathAndInputFiles);
+    }
+
+    @Benchmark
+    public SensorContextTester reportFileContent() {
+        sensor.reportFileContent(context, pathAndInputFiles, reportContent);
+        return context;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates synthetic Ballerina source files and analysis results reports for the benchmarks.
+ *
+ * @since 0.2.0
+ */
+final class SyntheticProject {
+    static final int LINES_PER_FILE = 200;
+    private static final String SOURCE_LINE =
+            "    int result = checkpanic getResult(); // synthetic line for benchmarks";
+    private static final String[] RULE_IDS = {"ballerina:1", "ballerina:2", "ballerina:3", "ballerina:4"};
+
+    private SyntheticProject() {
+    }
+
+    static Map<String, InputFile> inputFiles(Path projectDir, int fileCount) {
+        String content = (SOURCE_LINE + "\n").repeat(LINES_PER_FILE);
+        Map<String, InputFile> pathAndInputFiles = new HashMap<>();
+        for (int i = 0; i < fileCount; i++) {
+            InputFile inputFile = TestInputFileBuilder.create("moduleKey", "modules/m" + i + "/main.bal")
+                    .setModuleBaseDir(projectDir)
+                    .setType(InputFile.Type.MAIN)
+                    .setLanguage("ballerina")
+                    .setCharset(StandardCharsets.UTF_8)
+                    .setContents(content)
+                    .build();
+            pathAndInputFiles.put(Path.of(inputFile.uri()).toString(), inputFile);
+        }
+        return pathAndInputFiles;
+    }
+
+    static JsonArray report(List<String> filePaths, int issueCount) {
+        JsonArray issues = new JsonArray(issueCount);
+        for (int i = 0; i < issueCount; i++) {
+            String filePath = filePaths.get(i % filePaths.size());
+            int line = (i / filePaths.size()) % (LINES_PER_FILE - 1);
+            JsonObject issue = new JsonObject();
+            issue.addProperty("startLine", line);
+            issue.addProperty("startLineOffset", startLineOffset(i, filePaths.size()));
+            issue.addProperty("endLine", line);
+            issue.addProperty("endLineOffset", 39);
+            issue.addProperty("ruleID", RULE_IDS[i % RULE_IDS.length]);
+            issue.addProperty("message", "Avoid checkpanic");
+            issue.addProperty("ruleKind", "CODE_SMELL");
+            issue.addProperty("source", "BUILT_IN");
+            issue.addProperty("fileName", "synthetic/main.bal");
+            issue.addProperty("filePath", filePath);
+            issues.add(issue);
+        }
+        return issues;
+    }
+
+    static List<IssueRecord> issueRecords(List<String> filePaths, int issueCount) {
+        List<IssueRecord> issues = new ArrayList<>(issueCount);
+        for (int i = 0; i < issueCount; i++) {
+            int line = (i / filePaths.size()) % (LINES_PER_FILE - 1);
+            issues.add(new IssueRecord(line, startLineOffset(i, filePaths.size()), line, 39,
+                    RULE_IDS[i % RULE_IDS.length], "Avoid checkpanic", "CODE_SMELL", "BUILT_IN", "synthetic/main.bal",
+                    filePaths.get(i % filePaths.size())));
+        }
+        return issues;
+    }
+
+    /**
+     * Shifts the start offset once all lines of the files are used, so that every generated issue is distinct and
+     * none is dropped as a duplicate.
+     */
+    private static int startLineOffset(int issueIndex, int fileCount) {
+        return 4 + (issueIndex / (fileCount * (LINES_PER_FILE - 1))) % 30;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the README scraping done by {@link RuleVisitor} and the Markdown to HTML conversion done by
+ * {@link RuleGenerator}.
+ *
+ * @since 0.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RuleGeneratorBenchmark {
+    @Param({"10", "100", "1000"})
+    public int ruleCount;
+
+    private String readme;
+    private Map<String, String> ruleDocsInMd;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("# Scan tool\n\nSynthetic README for benchmarks.\n\n## Rules\n\n");
+        for (int i = 1; i <= ruleCount; i++) {
+            sb.append("### ballerina:").append(i).append(" - Avoid checkpanic\n\n")
+                    .append("Using `checkpanic` terminates the program when an error is returned.\n\n")
+                    .append("#### Noncompliant code example\n\n")
+                    .append("```ballerina\nint result = checkpanic getResult();\n```\n\n")
+                    .append("> Handle the error instead.\n\n")
+                    .append("- Use `check` to propagate the error\n\n");
+        }
+        sb.append("## Contributing\n\nSee the contribution guidelines.\n");
+        readme = sb.toString();
+        ruleDocsInMd = RuleGenerator.scrapeRulesFromReadme(readme);
+    }
+
+    @Benchmark
+    public Map<String, String> scrapeRulesFromReadme() {
+        return RuleGenerator.scrapeRulesFromReadme(readme);
+    }
+
+    @Benchmark
+    public Map<String, String> convertRuleDocsToHtml() {
+        return RuleGenerator.convertRuleDocsToHtml(ruleDocsInMd);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.rule.ActiveRule;
+import org.sonar.api.batch.rule.ActiveRules;
+import org.sonar.api.config.Configuration;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.ballerina.sonar.Constants.ACTIVE_RULES_ONLY_KEY;
+import static io.ballerina.sonar.Constants.RULE_REPOSITORY_KEY;
+
+/**
+ * Restricts {@code bal scan} to the rules of the Ballerina repository that are active in the quality profile, so
+ * that deactivated rules are not analyzed at all. The filter is enabled with
+ * {@code sonar.ballerina.rules.activeOnly=true}.
+ * Rules of third-party analyzers reported as external issues are not part of the repository and are therefore
+ * not run while the filter applies, which is why it is disabled by default.
+ *
+ * @since 0.2.0
+ */
+final class ActiveRulesFilter {
+    private static final String INCLUDE_RULES_OPTION = "--include-rules=";
+
+    private ActiveRulesFilter() {
+    }
+
+    /**
+     * Returns the {@code bal scan} option selecting the active rules of the Ballerina repository.
+     *
+     * @param activeRules   active rules of the quality profile
+     * @param configuration analysis configuration
+     * @return the include option, or empty if the filter is disabled or no rule of the repository is active
+     */
+    static Optional<String> includeRulesOption(ActiveRules activeRules, Configuration configuration) {
+        if (!configuration.getBoolean(ACTIVE_RULES_ONLY_KEY).orElse(false)) {
+            return Optional.empty();
+        }
+        Set<String> scanRuleIds = new TreeSet<>();
+        for (ActiveRule activeRule : activeRules.findByRepository(RULE_REPOSITORY_KEY)) {
+            scanRuleIds.add(scanRuleId(activeRule.ruleKey().rule()));
+        }
+        if (scanRuleIds.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(INCLUDE_RULES_OPTION + String.join(",", scanRuleIds));
+    }
+
+    /**
+     * Converts a SonarQube rule key to the rule id used by the scan tool, e.g. {@code ballerina-1} to
+     * {@code ballerina:1} and {@code ballerinax-redis-2} to {@code ballerinax/redis:2}.
+     * Ballerina organization and module names cannot contain a {@code -}, which makes the conversion unambiguous.
+     */
+    static String scanRuleId(String ruleKey) {
+        int numberSeparator = ruleKey.lastIndexOf('-');
+        if (numberSeparator < 0) {
+            return ruleKey;
+        }
+        String analyzer = ruleKey.substring(0, numberSeparator);
+        String ruleNumber = ruleKey.substring(numberSeparator + 1);
+        int moduleSeparator = analyzer.indexOf('-');
+        if (moduleSeparator >= 0) {
+            analyzer = analyzer.substring(0, moduleSeparator) + "/" + analyzer.substring(moduleSeparator + 1);
+        }
+        return analyzer + ":" + ruleNumber;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.stream.JsonWriter;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the per-phase durations and the counters of a Ballerina sensor run.
+ * The statistics are logged at the end of the analysis and written as JSON to the work directory so that they can
+ * be consumed by build dashboards.
+ *
+ * @since 0.2.0
+ */
+final class AnalysisStatistics {
+    private static final int MAX_UNRESOLVED_PATH_SAMPLES = 20;
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private final long[] counters = new long[Counter.values().length];
+    // Only a few unresolved paths are kept as samples, a report pointing outside the project has one per file
+    private final Set<String> unresolvedPathSamples = new LinkedHashSet<>();
+    private long unresolvedPathCount;
+
+    /**
+     * Phases of the sensor that are timed individually.
+     */
+    enum Phase {
+        SCAN_START("scanStart"),
+        SCAN("scan"),
+        REPORT_PARSE("reportParse"),
+        PATH_RESOLUTION("pathResolution"),
+        ISSUE_SAVE("issueSave");
+
+        private final String key;
+
+        Phase(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Counters recorded by the sensor.
+     */
+    enum Counter {
+        BYTES_READ("bytesRead"),
+        ISSUES_READ("issuesRead"),
+        ISSUES_SAVED("issuesSaved"),
+        INVALID_ISSUES("invalidIssues"),
+        DUPLICATE_ISSUES("duplicateIssues"),
+        SUPPRESSED_ISSUES("suppressedIssues"),
+        CLAMPED_LOCATIONS("clampedLocations"),
+        DROPPED_LOCATIONS("droppedLocations"),
+        UNRESOLVED_ISSUES("unresolvedIssues");
+
+        private final String key;
+
+        Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    void addDuration(Phase phase, long phaseStartNanos) {
+        phaseNanos[phase.ordinal()] += System.nanoTime() - phaseStartNanos;
+    }
+
+    void addNanos(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    void increment(Counter counter) {
+        counters[counter.ordinal()]++;
+    }
+
+    void add(Counter counter, long value) {
+        counters[counter.ordinal()] += value;
+    }
+
+    long get(Counter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    long durationMillis(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(phaseNanos[phase.ordinal()]);
+    }
+
+    /**
+     * Records a reported file that is not indexed, once per file as the issues are grouped by file.
+     */
+    void addUnresolvedPath(String path) {
+        unresolvedPathCount++;
+        if (unresolvedPathSamples.size() < MAX_UNRESOLVED_PATH_SAMPLES) {
+            unresolvedPathSamples.add(path);
+        }
+    }
+
+    void log(Logger logger) {
+        StringBuilder summary = new StringBuilder("Ballerina analysis statistics: total=")
+                .append(totalMillis()).append(" ms");
+        for (Phase phase : Phase.values()) {
+            summary.append(", ").append(phase.key).append('=').append(durationMillis(phase)).append(" ms");
+        }
+        for (Counter counter : Counter.values()) {
+            summary.append(", ").append(counter.key).append('=').append(get(counter));
+        }
+        summary.append(", unresolvedPaths=").append(unresolvedPathCount);
+        logger.info(summary.toString());
+        if (unresolvedPathCount > 0) {
+            logger.warn("{} reported file(s) are not indexed by SonarQube and their issues were skipped, e.g. {}",
+                    unresolvedPathCount, unresolvedPathSamples.iterator().next());
+        }
+    }
+
+    void writeTo(Path statisticsFile) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(statisticsFile, StandardCharsets.UTF_8);
+             JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.setIndent("  ");
+            jsonWriter.beginObject();
+            jsonWriter.name("totalMillis").value(totalMillis());
+            jsonWriter.name("phasesMillis").beginObject();
+            for (Phase phase : Phase.values()) {
+                jsonWriter.name(phase.key).value(durationMillis(phase));
+            }
+            jsonWriter.endObject();
+            jsonWriter.name("counters").beginObject();
+            for (Counter counter : Counter.values()) {
+                jsonWriter.name(counter.key).value(get(counter));
+            }
+            jsonWriter.endObject();
+            jsonWriter.name("unresolvedPaths").beginObject();
+            jsonWriter.name("count").value(unresolvedPathCount);
+            jsonWriter.name("samples").beginArray();
+            for (String path : unresolvedPathSamples) {
+                jsonWriter.value(path);
+            }
+            jsonWriter.endArray();
+            jsonWriter.endObject();
+            jsonWriter.endObject();
+        }
+    }
+
+    private long totalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
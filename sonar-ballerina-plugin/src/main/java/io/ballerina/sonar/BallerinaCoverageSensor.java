@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import io.ballerina.sonar.CoverageReportReader.SourceFileCoverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.Sensor;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.batch.sensor.SensorDescriptor;
+import org.sonar.api.batch.sensor.coverage.NewCoverage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.ballerina.sonar.Constants.COVERAGE_REPORT_PATHS_DEFAULT_VALUE;
+import static io.ballerina.sonar.Constants.COVERAGE_REPORT_PATHS_KEY;
+
+/**
+ * Imports the line coverage of the {@code test_results.json} reports written by {@code bal test --code-coverage}.
+ *
+ * @since 0.2.0
+ */
+class BallerinaCoverageSensor implements Sensor {
+    private final Logger logger = LoggerFactory.getLogger(BallerinaCoverageSensor.class);
+    private final BallerinaLanguage language;
+
+    public BallerinaCoverageSensor(BallerinaLanguage language) {
+        this.language = language;
+    }
+
+    @Override
+    public void describe(SensorDescriptor descriptor) {
+        descriptor.onlyOnLanguage(language.getKey()).name(language.getName() + " Coverage Sensor");
+    }
+
+    @Override
+    public void execute(SensorContext context) {
+        Path baseDir = context.fileSystem().baseDir().toPath();
+        List<Path> reports = BallerinaModules.reports(context.config(), baseDir, COVERAGE_REPORT_PATHS_KEY,
+                COVERAGE_REPORT_PATHS_DEFAULT_VALUE);
+        if (reports.isEmpty()) {
+            logger.debug("No Ballerina coverage report found");
+            return;
+        }
+        InputFileIndex inputFileIndex = InputFileIndex.of(context.fileSystem(), language.getKey());
+        for (Path report : reports) {
+            importReport(context, inputFileIndex, report, BallerinaModules.packageRoot(report, baseDir));
+        }
+    }
+
+    private void importReport(SensorContext context, InputFileIndex inputFileIndex, Path report, Path packageRoot) {
+        logger.info("Importing Ballerina coverage report: {}", report);
+        int[] importedFiles = new int[1];
+        int[] unresolvedFiles = new int[1];
+        try {
+            CoverageReportReader.read(report, coverage -> {
+                InputFile inputFile = resolve(inputFileIndex, packageRoot, coverage);
+                if (inputFile == null) {
+                    logger.debug("Skipping coverage of a file that is not indexed: {}", coverage.fileName());
+                    unresolvedFiles[0]++;
+                    return;
+                }
+                saveCoverage(context, inputFile, coverage);
+                importedFiles[0]++;
+            });
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            logger.warn("Unable to import the Ballerina coverage report {}: {}", report, e.getMessage());
+            return;
+        }
+        logger.info("Imported the coverage of {} Ballerina file(s), {} file(s) of the report are not indexed",
+                importedFiles[0], unresolvedFiles[0]);
+    }
+
+    private static void saveCoverage(SensorContext context, InputFile inputFile, SourceFileCoverage coverage) {
+        NewCoverage newCoverage = context.newCoverage().onFile(inputFile);
+        int lineCount = inputFile.lines();
+        for (int line : coverage.coveredLines()) {
+            if (line > 0 && line <= lineCount) {
+                newCoverage.lineHits(line, 1);
+            }
+        }
+        for (int line : coverage.missedLines()) {
+            if (line > 0 && line <= lineCount) {
+                newCoverage.lineHits(line, 0);
+            }
+        }
+        newCoverage.save();
+    }
+
+    /**
+     * Resolves a source file of the report in the candidate directories of its module.
+     */
+    private static InputFile resolve(InputFileIndex inputFileIndex, Path packageRoot, SourceFileCoverage coverage) {
+        if (coverage.fileName() == null) {
+            return null;
+        }
+        for (Path moduleDirectory : BallerinaModules.moduleDirectories(packageRoot, coverage.moduleName())) {
+            InputFile inputFile = inputFileIndex.get(moduleDirectory.resolve(coverage.fileName()));
+            if (inputFile != null) {
+                return inputFile;
+            }
+        }
+        return null;
+    }
+}
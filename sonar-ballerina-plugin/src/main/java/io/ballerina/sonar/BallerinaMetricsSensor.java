@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.FilePredicates;
+import org.sonar.api.batch.fs.FileSystem;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.Sensor;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.batch.sensor.SensorDescriptor;
+import org.sonar.api.batch.sensor.cpd.NewCpdTokens;
+import org.sonar.api.measures.CoreMetrics;
+import org.sonar.api.measures.FileLinesContext;
+import org.sonar.api.measures.FileLinesContextFactory;
+import org.sonar.api.measures.Metric;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.ballerina.sonar.Constants.METRICS_BATCH_SIZE;
+
+/**
+ * Computes the lines of code, the comment lines and the copy-paste detection tokens of the Ballerina source files.
+ * Files are scanned in parallel, in batches to bound the number of tasks of large projects, and the measures and
+ * tokens are saved from the sensor thread in the order of the batches. Only a few batches are scanned ahead of the
+ * one being saved, so that the tokens of a large project are never held in memory at once.
+ *
+ * @since 0.2.0
+ */
+class BallerinaMetricsSensor implements Sensor {
+    private final Logger logger = LoggerFactory.getLogger(BallerinaMetricsSensor.class);
+    private final BallerinaLanguage language;
+    private final FileLinesContextFactory fileLinesContextFactory;
+
+    public BallerinaMetricsSensor(BallerinaLanguage language, FileLinesContextFactory fileLinesContextFactory) {
+        this.language = language;
+        this.fileLinesContextFactory = fileLinesContextFactory;
+    }
+
+    @Override
+    public void describe(SensorDescriptor descriptor) {
+        descriptor.onlyOnLanguage(language.getKey()).name(language.getName() + " Metrics Sensor");
+    }
+
+    @Override
+    public void execute(SensorContext context) {
+        FileSystem fileSystem = context.fileSystem();
+        FilePredicates predicates = fileSystem.predicates();
+        List<InputFile> inputFiles = new ArrayList<>();
+        fileSystem.inputFiles(predicates.and(predicates.hasLanguage(language.getKey()),
+                predicates.hasType(InputFile.Type.MAIN))).forEach(inputFiles::add);
+        if (inputFiles.isEmpty()) {
+            return;
+        }
+        int batches = (inputFiles.size() + METRICS_BATCH_SIZE - 1) / METRICS_BATCH_SIZE;
+        int threads = Math.min(batches, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        int measuredFiles = 0;
+        try {
+            Deque<Future<List<FileMetrics>>> results = new ArrayDeque<>();
+            int nextBatch = 0;
+            while (nextBatch < batches || !results.isEmpty()) {
+                while (nextBatch < batches && results.size() < 2 * threads) {
+                    List<InputFile> batch = inputFiles.subList(nextBatch * METRICS_BATCH_SIZE,
+                            Math.min((nextBatch + 1) * METRICS_BATCH_SIZE, inputFiles.size()));
+                    results.add(executor.submit(() -> computeMetrics(batch)));
+                    nextBatch++;
+                }
+                if (context.isCancelled()) {
+                    logger.info("Ballerina analysis cancelled, stopping the metrics computation");
+                    return;
+                }
+                for (FileMetrics fileMetrics : results.poll().get()) {
+                    saveMetrics(context, fileMetrics);
+                    measuredFiles++;
+                }
+            }
+        } catch (ExecutionException e) {
+            logger.error("Unable to compute the Ballerina metrics: {}", e.getCause().getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while computing the Ballerina metrics");
+            return;
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Computed the metrics of {} Ballerina file(s)", measuredFiles);
+    }
+
+    private List<FileMetrics> computeMetrics(List<InputFile> batch) {
+        List<FileMetrics> batchMetrics = new ArrayList<>(batch.size());
+        for (InputFile inputFile : batch) {
+            try {
+                String contents = inputFile.contents();
+                batchMetrics.add(new FileMetrics(inputFile, LineMetrics.of(contents), CpdTokens.tokenize(contents)));
+            } catch (IOException e) {
+                logger.warn("Unable to read the Ballerina file {}: {}", inputFile, e.getMessage());
+            }
+        }
+        return batchMetrics;
+    }
+
+    private void saveMetrics(SensorContext context, FileMetrics fileMetrics) {
+        InputFile inputFile = fileMetrics.inputFile();
+        LineMetrics lineMetrics = fileMetrics.lineMetrics();
+        saveMeasure(context, inputFile, CoreMetrics.NCLOC, lineMetrics.linesOfCode());
+        saveMeasure(context, inputFile, CoreMetrics.COMMENT_LINES, lineMetrics.commentLines());
+        FileLinesContext fileLinesContext = fileLinesContextFactory.createFor(inputFile);
+        for (int line : lineMetrics.codeLines()) {
+            fileLinesContext.setIntValue(CoreMetrics.NCLOC_DATA_KEY, line, 1);
+        }
+        fileLinesContext.save();
+        NewCpdTokens newCpdTokens = context.newCpdTokens().onFile(inputFile);
+        try {
+            fileMetrics.cpdTokens().addTo(newCpdTokens);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unable to save the copy-paste detection tokens of {}: {}", inputFile, e.getMessage());
+            return;
+        }
+        newCpdTokens.save();
+    }
+
+    private static void saveMeasure(SensorContext context, InputFile inputFile, Metric<Integer> metric, int value) {
+        context.<Integer>newMeasure()
+                .on(inputFile)
+                .forMetric(metric)
+                .withValue(value)
+                .save();
+    }
+
+    private record FileMetrics(InputFile inputFile, LineMetrics lineMetrics, CpdTokens cpdTokens) {
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.config.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static io.ballerina.sonar.Constants.BALLERINA_TOML;
+import static io.ballerina.sonar.Constants.MODULES_DIRECTORY;
+
+/**
+ * Locates the reports of the Ballerina tools and the packages and modules they refer to.
+ *
+ * @since 0.2.0
+ */
+final class BallerinaModules {
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private BallerinaModules() {
+    }
+
+    /**
+     * Returns the existing reports among the configured report paths, relative paths being resolved against the
+     * base directory.
+     *
+     * @param configuration analysis configuration
+     * @param baseDir       base directory of the analysis
+     * @param key           key of the report paths property
+     * @param defaultPath   report path used when the property is not set
+     * @return the existing reports
+     */
+    static List<Path> reports(Configuration configuration, Path baseDir, String key, String defaultPath) {
+        String[] reportPaths = configuration.getStringArray(key);
+        if (reportPaths.length == 0) {
+            reportPaths = new String[]{defaultPath};
+        }
+        return reports(reportPaths, baseDir);
+    }
+
+    /**
+     * Returns the existing reports among the given report paths. A report path may be a glob such as
+     * {@code shards/shard-?.json}, whose matches are returned in path order.
+     *
+     * @param reportPaths report paths or globs
+     * @param baseDir     directory against which relative paths are resolved
+     * @return the existing reports, without duplicates
+     */
+    static List<Path> reports(String[] reportPaths, Path baseDir) {
+        Set<Path> reports = new LinkedHashSet<>();
+        for (String reportPath : reportPaths) {
+            String trimmedPath = reportPath.trim();
+            if (trimmedPath.isEmpty()) {
+                continue;
+            }
+            if (!isGlob(trimmedPath)) {
+                Path report = baseDir.resolve(trimmedPath).normalize();
+                if (Files.isRegularFile(report)) {
+                    reports.add(report);
+                }
+                continue;
+            }
+            try {
+                reports.addAll(globMatches(trimmedPath, baseDir));
+            } catch (IOException | UncheckedIOException e) {
+                throw new IllegalStateException("Unable to list the reports matching " + trimmedPath + ": "
+                        + e.getMessage(), e);
+            }
+        }
+        return new ArrayList<>(reports);
+    }
+
+    private static boolean isGlob(String path) {
+        return path.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    /**
+     * Walks the directory made of the leading segments of a glob that hold no glob character and returns the files
+     * matching the remaining segments.
+     */
+    private static List<Path> globMatches(String glob, Path baseDir) throws IOException {
+        String[] segments = glob.replace('\\', '/').split("/", -1);
+        int firstGlobSegment = 0;
+        while (!isGlob(segments[firstGlobSegment])) {
+            firstGlobSegment++;
+        }
+        String directory = String.join("/", Arrays.asList(segments).subList(0, firstGlobSegment));
+        String pattern = String.join("/", Arrays.asList(segments).subList(firstGlobSegment, segments.length));
+        Path root = (firstGlobSegment == 0 ? baseDir : baseDir.resolve(directory.isEmpty() ? "/" : directory))
+                .normalize();
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        PathMatcher matcher = root.getFileSystem().getPathMatcher("glob:" + pattern);
+        int maxDepth = pattern.contains("**") ? Integer.MAX_VALUE : segments.length - firstGlobSegment;
+        try (Stream<Path> files = Files.walk(root, maxDepth)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(root.relativize(file)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Returns the closest ancestor of a report containing a {@code Ballerina.toml}, or the base directory.
+     *
+     * @param report  path of a report written inside a package, e.g. in {@code target/report}
+     * @param baseDir base directory of the analysis
+     * @return the package root of the report
+     */
+    static Path packageRoot(Path report, Path baseDir) {
+        for (Path directory = report.getParent(); directory != null; directory = directory.getParent()) {
+            if (Files.isRegularFile(directory.resolve(BALLERINA_TOML))) {
+                return directory;
+            }
+        }
+        return baseDir;
+    }
+
+    /**
+     * Returns the directories that may hold a module, most specific first.
+     * A module {@code pkg.utils} is in {@code modules/utils} and the default module is the package root. As package
+     * names may contain dots, every suffix of the module name is a candidate module directory, longest first,
+     * followed by the package root.
+     *
+     * @param packageRoot root directory of the package
+     * @param moduleName  qualified module name, may be {@code null}
+     * @return the candidate directories of the module
+     */
+    static List<Path> moduleDirectories(Path packageRoot, String moduleName) {
+        List<Path> directories = new ArrayList<>();
+        int separator = moduleName == null ? -1 : moduleName.indexOf('.');
+        while (separator >= 0) {
+            directories.add(packageRoot.resolve(MODULES_DIRECTORY).resolve(moduleName.substring(separator + 1)));
+            separator = moduleName.indexOf('.', separator + 1);
+        }
+        directories.add(packageRoot);
+        return directories;
+    }
+}
@@ -30,8 +30,12 @@ public class BallerinaPlugin implements Plugin {
         context.addExtensions(
                 BallerinaLanguage.class,
                 BallerinaSensor.class,
+                BallerinaCoverageSensor.class,
+                BallerinaTestSensor.class,
+                BallerinaMetricsSensor.class,
                 BallerinaRulesDefinition.class,
                 BallerinaProfileDefinition.class
         );
+        context.addExtensions(BallerinaProperties.definitions());
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import io.ballerina.sonar.internal.ScanToolProperties;
+import org.sonar.api.PropertyType;
+import org.sonar.api.config.PropertyDefinition;
+import org.sonar.api.resources.Qualifiers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.sonar.Constants.ACTIVE_RULES_ONLY_KEY;
+import static io.ballerina.sonar.Constants.COVERAGE_REPORT_PATHS_DEFAULT_VALUE;
+import static io.ballerina.sonar.Constants.COVERAGE_REPORT_PATHS_KEY;
+import static io.ballerina.sonar.Constants.FILE_SUFFIXES_DEFAULT_VALUE;
+import static io.ballerina.sonar.Constants.FILE_SUFFIXES_KEY;
+import static io.ballerina.sonar.Constants.LANGUAGE_NAME;
+import static io.ballerina.sonar.Constants.MAX_ISSUES_PER_FILE_KEY;
+import static io.ballerina.sonar.Constants.MAX_ISSUES_PER_RULE_KEY;
+import static io.ballerina.sonar.Constants.MAX_ISSUES_TOTAL_KEY;
+import static io.ballerina.sonar.Constants.TEST_RESULTS_REPORT_PATHS_DEFAULT_VALUE;
+import static io.ballerina.sonar.Constants.TEST_RESULTS_REPORT_PATHS_KEY;
+
+/**
+ * Declares the {@code sonar.ballerina.*} properties, so that they are documented and can be set from the SonarQube
+ * UI.
+ *
+ * @since 0.2.0
+ */
+final class BallerinaProperties {
+    private static final String GENERAL = "General";
+    private static final String ISSUES = "Issues";
+    private static final String TESTS_AND_COVERAGE = "Tests and coverage";
+
+    private BallerinaProperties() {
+    }
+
+    static List<PropertyDefinition> definitions() {
+        List<PropertyDefinition> definitions = new ArrayList<>(List.of(
+                projectProperty(FILE_SUFFIXES_KEY, GENERAL)
+                        .name("File suffixes")
+                        .description("List of the suffixes of the Ballerina files to analyze.")
+                        .defaultValue(FILE_SUFFIXES_DEFAULT_VALUE)
+                        .multiValues(true)
+                        .build(),
+                projectProperty(ACTIVE_RULES_ONLY_KEY, ISSUES)
+                        .name("Scan the active rules only")
+                        .description("Run only the Ballerina rules active in the quality profile. The rules of the "
+                                + "external analyzers are not in the quality profile, so their issues are no "
+                                + "longer reported when enabled.")
+                        .type(PropertyType.BOOLEAN)
+                        .defaultValue(String.valueOf(false))
+                        .build(),
+                projectProperty(MAX_ISSUES_PER_RULE_KEY, ISSUES)
+                        .name("Maximum issues per rule")
+                        .description("Maximum number of issues saved per rule, all the issues being saved when not "
+                                + "set.")
+                        .type(PropertyType.INTEGER)
+                        .build(),
+                projectProperty(MAX_ISSUES_PER_FILE_KEY, ISSUES)
+                        .name("Maximum issues per file")
+                        .description("Maximum number of issues saved per file, all the issues being saved when not "
+                                + "set.")
+                        .type(PropertyType.INTEGER)
+                        .build(),
+                projectProperty(MAX_ISSUES_TOTAL_KEY, ISSUES)
+                        .name("Maximum issues")
+                        .description("Maximum number of issues saved by an analysis, all the issues being saved when "
+                                + "not set.")
+                        .type(PropertyType.INTEGER)
+                        .build(),
+                projectProperty(COVERAGE_REPORT_PATHS_KEY, TESTS_AND_COVERAGE)
+                        .name("Coverage report paths")
+                        .description("Paths or globs of the test results reports of bal test --code-coverage to "
+                                + "import the coverage from, relative to the project base directory.")
+                        .defaultValue(COVERAGE_REPORT_PATHS_DEFAULT_VALUE)
+                        .multiValues(true)
+                        .build(),
+                projectProperty(TEST_RESULTS_REPORT_PATHS_KEY, TESTS_AND_COVERAGE)
+                        .name("Test results report paths")
+                        .description("Paths or globs of the test results reports of bal test to import the test "
+                                + "execution results from, relative to the project base directory.")
+                        .defaultValue(TEST_RESULTS_REPORT_PATHS_DEFAULT_VALUE)
+                        .multiValues(true)
+                        .build()
+        ));
+        definitions.addAll(ScanToolProperties.definitions());
+        return definitions;
+    }
+
+    private static PropertyDefinition.Builder projectProperty(String key, String subCategory) {
+        return PropertyDefinition.builder(key)
+                .category(LANGUAGE_NAME)
+                .subCategory(subCategory)
+                .onQualifiers(Qualifiers.PROJECT);
+    }
+}
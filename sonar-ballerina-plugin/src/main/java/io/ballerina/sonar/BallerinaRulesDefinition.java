@@ -19,6 +19,7 @@ package io.ballerina.sonar;
 
 import io.ballerina.sonar.internal.RuleGenerator;
 import io.ballerina.sonar.internal.RuleMetadata;
+import org.sonar.api.config.Configuration;
 import org.sonar.api.rules.RuleType;
 import org.sonar.api.server.rule.RulesDefinition;
 
@@ -34,6 +35,11 @@ import static io.ballerina.sonar.Constants.RULE_REPOSITORY_NAME;
  * @since 0.1.0
  */
 public class BallerinaRulesDefinition implements RulesDefinition {
+    private final Configuration configuration;
+
+    public BallerinaRulesDefinition(Configuration configuration) {
+        this.configuration = configuration;
+    }
 
     @Override
     public void define(Context context) {
@@ -41,7 +47,7 @@ public class BallerinaRulesDefinition implements RulesDefinition {
         repository.setName(RULE_REPOSITORY_NAME);
         RuleGenerator ruleMetadataGenerator = RuleGenerator.getInstance();
         try {
-            List<RuleMetadata> ruleDocs = ruleMetadataGenerator.loadRules();
+            List<RuleMetadata> ruleDocs = ruleMetadataGenerator.loadRules(configuration);
             for (RuleMetadata ruleDoc : ruleDocs) {
                 repository.createRule(ruleDoc.id())
                         .setName(ruleDoc.name())
@@ -18,53 +18,65 @@
 package io.ballerina.sonar;
 
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
+import io.ballerina.sonar.AnalysisStatistics.Counter;
+import io.ballerina.sonar.AnalysisStatistics.Phase;
+import io.ballerina.sonar.SensorEvents.IssueBatchEvent;
+import io.ballerina.sonar.SensorEvents.ReportDecodeEvent;
+import io.ballerina.sonar.SensorEvents.ScanProcessEvent;
 import org.apache.commons.lang3.SystemUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.sonar.api.batch.fs.FilePredicate;
+import org.sonar.api.SonarProduct;
 import org.sonar.api.batch.fs.FileSystem;
 import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.TextRange;
 import org.sonar.api.batch.rule.Severity;
 import org.sonar.api.batch.sensor.Sensor;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.SensorDescriptor;
+import org.sonar.api.batch.sensor.issue.NewExternalIssue;
+import org.sonar.api.batch.sensor.issue.NewIssue;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.api.rules.RuleType;
+import org.sonarsource.analyzer.commons.ProgressReport;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.sonar.Constants.ANALYSIS_RESULTS_FILE_PATH;
+import static io.ballerina.sonar.Constants.BAL_EXECUTABLE;
+import static io.ballerina.sonar.Constants.BAL_WINDOWS_EXECUTABLE;
 import static io.ballerina.sonar.Constants.BUG;
 import static io.ballerina.sonar.Constants.BUILT_IN;
+import static io.ballerina.sonar.Constants.CANCELLATION_POLL_MILLIS;
 import static io.ballerina.sonar.Constants.EXTERNAL;
 import static io.ballerina.sonar.Constants.ISSUES_FILE_PATH;
-import static io.ballerina.sonar.Constants.ISSUE_END_LINE;
-import static io.ballerina.sonar.Constants.ISSUE_END_LINE_OFFSET;
-import static io.ballerina.sonar.Constants.ISSUE_FILE_PATH;
-import static io.ballerina.sonar.Constants.ISSUE_MESSAGE;
-import static io.ballerina.sonar.Constants.ISSUE_RULE_ID;
-import static io.ballerina.sonar.Constants.ISSUE_RULE_KIND;
-import static io.ballerina.sonar.Constants.ISSUE_SOURCE;
-import static io.ballerina.sonar.Constants.ISSUE_START_LINE;
-import static io.ballerina.sonar.Constants.ISSUE_START_LINE_OFFSET;
+import static io.ballerina.sonar.Constants.ISSUE_BATCH_SIZE;
+import static io.ballerina.sonar.Constants.ISSUE_GROUPING_BUFFER_SIZE;
+import static io.ballerina.sonar.Constants.PROCESS_DESTROY_TIMEOUT_SECONDS;
+import static io.ballerina.sonar.Constants.PROGRESS_REPORT_PERIOD_SECONDS;
 import static io.ballerina.sonar.Constants.RULE_REPOSITORY_KEY;
+import static io.ballerina.sonar.Constants.SHADOW_WORKSPACE_DIRECTORY;
 import static io.ballerina.sonar.Constants.SONAR_SCANNER_OFFSET;
+import static io.ballerina.sonar.Constants.STATISTICS_FILE_PATH;
+import static io.ballerina.sonar.Constants.SYNTAX_DATA_FILE_PATH;
+import static io.ballerina.sonar.Constants.UNKNOWN_EXIT_CODE;
 import static io.ballerina.sonar.Constants.VULNERABILITY;
 
 /**
@@ -75,7 +87,10 @@ import static io.ballerina.sonar.Constants.VULNERABILITY;
 class BallerinaSensor implements Sensor {
     private final Logger logger = LoggerFactory.getLogger(BallerinaSensor.class);
     private final BallerinaLanguage language;
-    private final Set<String> externalRules = new HashSet<>();
+    private final Map<String, ReportedRule> reportedRules = new HashMap<>();
+    private final Set<InputFile> highlightedFiles = new HashSet<>();
+    private AnalysisStatistics statistics = new AnalysisStatistics();
+    private IssueCaps issueCaps = IssueCaps.unlimited();
 
     public BallerinaSensor(BallerinaLanguage language) {
         this.language = language;
@@ -88,78 +103,412 @@ class BallerinaSensor implements Sensor {
 
     @Override
     public void execute(SensorContext sensorContext) {
+        statistics = new AnalysisStatistics();
+        reportedRules.clear();
+        highlightedFiles.clear();
+        issueCaps = IssueCaps.fromConfiguration(sensorContext.config());
         FileSystem fileSystem = sensorContext.fileSystem();
-        FilePredicate mainFilePredicate = sensorContext.fileSystem().predicates()
-                .and(fileSystem.predicates().hasLanguage(language.getKey()));
-        Map<String, InputFile> pathAndInputFiles = new HashMap<>();
-        fileSystem.inputFiles(mainFilePredicate).forEach(inputFile ->
-                pathAndInputFiles.put(Path.of(inputFile.uri()).toString(), inputFile));
-        sensorContext.config().get(ANALYSIS_RESULTS_FILE_PATH).ifPresentOrElse((analyzedResultsPath) ->
-                        processAnalyzedResultsReport(sensorContext, pathAndInputFiles, analyzedResultsPath),
-                () -> performLibraryCall(sensorContext, pathAndInputFiles)
-        );
+        Map<String, InputFile> pathAndInputFiles = InputFileIndex.of(fileSystem, language.getKey()).asMap();
+        try {
+            String[] analyzedResultsPaths = sensorContext.config().getStringArray(ANALYSIS_RESULTS_FILE_PATH);
+            if (analyzedResultsPaths.length == 0) {
+                performLibraryCall(sensorContext, pathAndInputFiles);
+            } else {
+                processAnalyzedResultsReports(sensorContext, pathAndInputFiles, analyzedResultsPaths);
+            }
+        } finally {
+            reportStatistics(fileSystem.workDir().toPath());
+        }
+    }
+
+    /**
+     * Reports the issues of the analysis results reports given as paths or globs, such as the reports of the jobs
+     * of a CI matrix each scanning a part of the project. Several reports are merged while they are streamed and
+     * the issues found by more than one job are reported once. Relative paths are resolved against the working
+     * directory. A single path may also be the directory of a sharded report written by the platform plugin.
+     */
+    void processAnalyzedResultsReports(SensorContext context, Map<String, InputFile> pathAndInputFiles,
+                                       String[] analyzedResultsPaths) {
+        if (analyzedResultsPaths.length == 1) {
+            Path reportPath = Path.of(analyzedResultsPaths[0].trim()).toAbsolutePath();
+            if (ShardedIssueReport.isShardedReport(reportPath)) {
+                processShardedReport(context, pathAndInputFiles, reportPath);
+                return;
+            }
+        }
+        List<Path> reports = BallerinaModules.reports(analyzedResultsPaths, Path.of("").toAbsolutePath());
+        if (reports.isEmpty()) {
+            throw new RuntimeException("Unable to retrieve analysis results: no report found at "
+                    + String.join(", ", analyzedResultsPaths));
+        }
+        if (reports.size() == 1) {
+            processAnalyzedResultsReport(context, pathAndInputFiles, reports.get(0).toString());
+            return;
+        }
+        logger.info("Merging {} batch reports", reports.size());
+        long bytes = 0;
+        for (Path report : reports) {
+            logger.info("Analyzing batch report: {}", report);
+            try {
+                bytes += Files.size(report);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to retrieve analysis results: " + e.getMessage(), e);
+            }
+        }
+        statistics.add(Counter.BYTES_READ, bytes);
+        ReportDecodeEvent reportDecodeEvent = new ReportDecodeEvent();
+        reportDecodeEvent.begin();
+        try (MergedIssueReports mergedReports = MergedIssueReports.open(reports)) {
+            // The files of the merged reports are only known once read, the progress is given over the indexed files
+            DecodedIssues decodedIssues = new DecodedIssues(IssueTable.batches(mergedReports, ISSUE_BATCH_SIZE));
+            boolean reportingSuccessful = reportAnalysisIssues(context, decodedIssues, pathAndInputFiles,
+                    pathAndInputFiles.keySet(), ISSUE_BATCH_SIZE);
+            statistics.addNanos(Phase.REPORT_PARSE, decodedIssues.decodeNanos());
+            commitReportDecodeEvent(reportDecodeEvent, bytes, decodedIssues);
+            if (reportingSuccessful) {
+                logger.info("Ballerina analysis successful!");
+            } else if (!context.isCancelled()) {
+                logger.error("Unable to analyze Ballerina file batch!");
+            }
+        } catch (IOException | UncheckedIOException | IllegalStateException | JsonParseException e) {
+            throw new RuntimeException("Unable to report analysis results: " + e.getMessage(), e);
+        }
+        for (Path report : reports) {
+            saveSyntaxData(context, pathAndInputFiles, report.resolveSibling(SYNTAX_DATA_FILE_PATH));
+        }
+    }
+
+    /**
+     * Reports the issues of a sharded report. The shards are decoded in parallel, a bounded number ahead of the
+     * issues being saved, and the issues are saved from the sensor thread in manifest order.
+     */
+    private void processShardedReport(SensorContext context, Map<String, InputFile> pathAndInputFiles,
+                                      Path reportDirectory) {
+        ShardedIssueReport report;
+        long bytes = 0;
+        try {
+            report = ShardedIssueReport.open(reportDirectory);
+            for (Path shard : report.shards()) {
+                bytes += Files.size(shard);
+            }
+        } catch (IOException | IllegalStateException | JsonParseException e) {
+            throw new RuntimeException("Unable to retrieve analysis results: " + e.getMessage(), e);
+        }
+        logger.info("Analyzing sharded batch report: {} ({} shards)", reportDirectory, report.shards().size());
+        statistics.add(Counter.BYTES_READ, bytes);
+        int threads = Math.max(1, Math.min(report.shards().size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        ReportDecodeEvent reportDecodeEvent = new ReportDecodeEvent();
+        reportDecodeEvent.begin();
+        try {
+            // The files of the shards are only known once decoded, the progress is given over the indexed files
+            DecodedIssues decodedIssues = new DecodedIssues(report.issues(executor, 2 * threads));
+            boolean reportingSuccessful = reportAnalysisIssues(context, decodedIssues, pathAndInputFiles,
+                    pathAndInputFiles.keySet(), report.issueCount());
+            statistics.addNanos(Phase.REPORT_PARSE, decodedIssues.decodeNanos());
+            commitReportDecodeEvent(reportDecodeEvent, bytes, decodedIssues);
+            if (reportingSuccessful) {
+                logger.info("Ballerina analysis successful!");
+            } else if (!context.isCancelled()) {
+                logger.error("Unable to analyze Ballerina file batch!");
+            }
+        } catch (UncheckedIOException | IllegalStateException | JsonParseException e) {
+            throw new RuntimeException("Unable to report analysis results: " + e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+        saveSyntaxData(context, pathAndInputFiles, reportDirectory.resolveSibling(SYNTAX_DATA_FILE_PATH));
+    }
+
+    /**
+     * Commits the decode event of a report whose issues are decoded while they are saved, so the event spans
+     * the reporting of the issues.
+     */
+    private static void commitReportDecodeEvent(ReportDecodeEvent reportDecodeEvent, long bytes,
+                                                DecodedIssues decodedIssues) {
+        if (reportDecodeEvent.shouldCommit()) {
+            reportDecodeEvent.bytes = bytes;
+            reportDecodeEvent.issueCount = decodedIssues.issueCount();
+            reportDecodeEvent.commit();
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of a string, without encoding it.
+     */
+    static long utf8Length(CharSequence text) {
+        long length = 0;
+        int textLength = text.length();
+        for (int i = 0; i < textLength; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < textLength
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // Unpaired surrogates are encoded as the one byte replacement character '?'
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
     }
 
     public void processAnalyzedResultsReport(SensorContext context,
                                              Map<String, InputFile> pathAndInputFiles,
                                              String analyzedResultsFilePath) {
         logger.info("Analyzing batch report: {}", analyzedResultsFilePath);
-        String fileContent = getFileContent(analyzedResultsFilePath);
-        reportFileContent(context, pathAndInputFiles, fileContent);
+        reportIssuesOfReport(context, pathAndInputFiles, Path.of(analyzedResultsFilePath));
     }
 
     public void performLibraryCall(SensorContext context, Map<String, InputFile> pathAndInputFiles) {
-        logger.info("Analyzing Ballerina project");
-        ProcessBuilder fileScan = new ProcessBuilder();
-        fileScan.directory(context.fileSystem().baseDir());
-        List<String> arguments = new ArrayList<>();
-        if (SystemUtils.IS_OS_WINDOWS) {
-            arguments.add("cmd");
-            arguments.add("/c");
+        // SonarLint passes only the files being edited, whose contents may not be saved to disk yet
+        ShadowWorkspace shadowWorkspace = null;
+        if (context.runtime().getProduct() == SonarProduct.SONARLINT) {
+            logger.info("Analyzing {} Ballerina file(s)", pathAndInputFiles.size());
+            shadowWorkspace = new ShadowWorkspace(context.fileSystem().workDir().toPath()
+                    .resolve(SHADOW_WORKSPACE_DIRECTORY));
         } else {
-            arguments.add("sh");
-            arguments.add("-c");
+            logger.info("Analyzing Ballerina project");
         }
+        Set<Path> scanTargets = ScanTargets.of(context.fileSystem().baseDir().toPath(), pathAndInputFiles.keySet());
+        if (scanTargets.isEmpty()) {
+            logger.info("No indexed Ballerina files to analyze");
+            return;
+        }
+        Optional<String> includeRulesOption = ActiveRulesFilter.includeRulesOption(context.activeRules(),
+                context.config());
+        includeRulesOption.ifPresentOrElse(
+                option -> logger.info("Running only the Ballerina rules active in the quality profile"),
+                () -> logger.info("Running all Ballerina rules"));
+        for (Path scanTarget : scanTargets) {
+            if (context.isCancelled()) {
+                logger.info("Ballerina analysis cancelled");
+                return;
+            }
+            if (shadowWorkspace == null) {
+                scan(context, pathAndInputFiles, scanTarget, includeRulesOption);
+            } else {
+                scanInShadowWorkspace(context, shadowWorkspace, pathAndInputFiles, scanTarget, includeRulesOption);
+            }
+        }
+    }
+
+    /**
+     * Scans the copy of a scan target in the shadow workspace, in which the analyzed files hold their in-memory
+     * contents, and reports the issues of the analyzed files only.
+     */
+    private void scanInShadowWorkspace(SensorContext context, ShadowWorkspace shadowWorkspace,
+                                       Map<String, InputFile> pathAndInputFiles, Path scanTarget,
+                                       Optional<String> includeRulesOption) {
+        Map<String, InputFile> shadowPathAndInputFiles;
+        try {
+            shadowPathAndInputFiles = shadowWorkspace.prepare(scanTarget, pathAndInputFiles);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to prepare the Ballerina analysis of " + scanTarget + ": "
+                    + e.getMessage(), e);
+        }
+        scan(context, shadowPathAndInputFiles, shadowWorkspace.shadowTarget(scanTarget), includeRulesOption);
+    }
 
-        arguments.add("bal scan --platform-triggered --platforms=sonarqube");
+    /**
+     * Runs {@code bal scan} on a package root or a standalone file and reports the resulting issues.
+     * The scan runs in the package root, or in the directory of the standalone file, where the platform plugin
+     * writes its report.
+     */
+    private void scan(SensorContext context, Map<String, InputFile> pathAndInputFiles, Path scanTarget,
+                      Optional<String> includeRulesOption) {
+        boolean standaloneFile = !Files.isDirectory(scanTarget);
+        Path scanDirectory = standaloneFile ? scanTarget.getParent() : scanTarget;
+        logger.info("Running Ballerina scan on: {}", scanTarget);
+        ProcessBuilder fileScan = new ProcessBuilder();
+        fileScan.directory(scanDirectory.toFile());
+        // Arguments are passed to the executable as they are, file names are never interpreted by a shell
+        List<String> arguments = new ArrayList<>();
+        arguments.add(SystemUtils.IS_OS_WINDOWS ? BAL_WINDOWS_EXECUTABLE : BAL_EXECUTABLE);
+        arguments.add("scan");
+        arguments.add("--platform-triggered");
+        arguments.add("--platforms=sonarqube");
+        includeRulesOption.ifPresent(arguments::add);
+        if (standaloneFile) {
+            arguments.add(scanTarget.getFileName().toString());
+        }
         fileScan.command(arguments);
+        Path analyzedResultsFile = scanDirectory.resolve(ISSUES_FILE_PATH);
+        Process process = null;
+        ScanProcessEvent scanProcessEvent = new ScanProcessEvent();
+        scanProcessEvent.begin();
         try {
             fileScan.inheritIO();
-            Process process = fileScan.start();
-            int exitCode = process.waitFor();
+            deleteScanResults(analyzedResultsFile);
+            long scanStart = System.nanoTime();
+            process = fileScan.start();
+            statistics.addDuration(Phase.SCAN_START, scanStart);
+            long scanWaitStart = System.nanoTime();
+            while (!process.waitFor(CANCELLATION_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (context.isCancelled()) {
+                    logger.info("Ballerina analysis cancelled, stopping the scan of {}", scanTarget);
+                    destroyProcessTree(process);
+                    deleteScanResults(analyzedResultsFile);
+                    commitScanProcessEvent(scanProcessEvent, scanDirectory, process, true);
+                    return;
+                }
+            }
+            int exitCode = process.exitValue();
+            statistics.addDuration(Phase.SCAN, scanWaitStart);
+            commitScanProcessEvent(scanProcessEvent, scanDirectory, process, false);
             if (exitCode == 0) {
-                String analyzedResultsFilePath = Paths.get(context.fileSystem().baseDir().getPath())
-                        .resolve(ISSUES_FILE_PATH)
-                        .toString();
-                String fileContent = getFileContent(analyzedResultsFilePath);
-                reportFileContent(context, pathAndInputFiles, fileContent);
+                reportIssuesOfReport(context, pathAndInputFiles, analyzedResultsFile);
             } else {
                 logger.error("Failed to analyze Ballerina file batch with exit code: {}", exitCode);
             }
-        } catch (IOException | InterruptedException e) {
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to analyze Ballerina file batch: ", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            destroyProcessTree(process);
+            deleteScanResults(analyzedResultsFile);
+            commitScanProcessEvent(scanProcessEvent, scanDirectory, process, true);
             throw new RuntimeException("Failed to analyze Ballerina file batch: ", e);
         }
     }
 
-    private String getFileContent(String analyzedResultsFilePath) {
-        try (FileReader fileReader = new FileReader(analyzedResultsFilePath, StandardCharsets.UTF_8);
-                BufferedReader bufferedReader = new BufferedReader(fileReader)) {
-            return bufferedReader.lines().collect(Collectors.joining());
-        } catch (IOException e) {
+    /**
+     * Ends and commits the event of a scan process, which has exited unless the scan is cancelled.
+     */
+    private static void commitScanProcessEvent(ScanProcessEvent scanProcessEvent, Path scanDirectory,
+                                               Process process, boolean cancelled) {
+        scanProcessEvent.end();
+        if (scanProcessEvent.shouldCommit()) {
+            scanProcessEvent.directory = scanDirectory.toString();
+            scanProcessEvent.cancelled = cancelled;
+            scanProcessEvent.exitCode = process != null && !process.isAlive() ? process.exitValue()
+                    : UNKNOWN_EXIT_CODE;
+            scanProcessEvent.commit();
+        }
+    }
+
+    /**
+     * Stops the scan process and the processes it started, such as the JVM the {@code bal} launcher script runs
+     * the analysis in, forcibly if they do not exit in time.
+     */
+    private void destroyProcessTree(Process process) {
+        if (process == null) {
+            return;
+        }
+        List<ProcessHandle> descendants = process.descendants().toList();
+        descendants.forEach(ProcessHandle::destroy);
+        process.destroy();
+        try {
+            if (!process.waitFor(PROCESS_DESTROY_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+        descendants.stream().filter(ProcessHandle::isAlive).forEach(ProcessHandle::destroyForcibly);
+    }
+
+    /**
+     * Deletes the report and the syntax data of a scan, so that the results of an earlier or a cancelled scan are
+     * never read as the results of the next one.
+     */
+    private void deleteScanResults(Path analyzedResultsFile) {
+        Path syntaxData = analyzedResultsFile.resolveSibling(SYNTAX_DATA_FILE_PATH);
+        for (Path scanResult : List.of(analyzedResultsFile, syntaxData)) {
+            try {
+                Files.deleteIfExists(scanResult);
+            } catch (IOException e) {
+                logger.warn("Unable to delete the Ballerina analysis results at {}: {}", scanResult, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Streams the issues of a report and groups them by file before reporting them, spilling sorted runs to the
+     * work directory for reports too large to be grouped in memory.
+     */
+    private void reportIssuesOfReport(SensorContext context, Map<String, InputFile> pathAndInputFiles, Path report) {
+        ReportDecodeEvent reportDecodeEvent = new ReportDecodeEvent();
+        reportDecodeEvent.begin();
+        long parseStart = System.nanoTime();
+        try (IssueReportReader reader = IssueReportReader.open(report);
+             FileGroupedIssues issues = FileGroupedIssues.group(reader, context.fileSystem().workDir().toPath(),
+                     ISSUE_GROUPING_BUFFER_SIZE)) {
+            statistics.addDuration(Phase.REPORT_PARSE, parseStart);
+            long bytes = Files.size(report);
+            statistics.add(Counter.BYTES_READ, bytes);
+            if (reportDecodeEvent.shouldCommit()) {
+                reportDecodeEvent.bytes = bytes;
+                reportDecodeEvent.issueCount = issues.issueCount();
+                reportDecodeEvent.commit();
+            }
+            if (issues.spilledRuns() > 0) {
+                logger.debug("Grouped the issues of {} by file in {} sorted runs", report, issues.spilledRuns());
+            }
+            boolean reportingSuccessful = reportAnalysisIssues(context, issues, pathAndInputFiles,
+                    issues.filePaths(), issues.issueCount());
+            if (reportingSuccessful) {
+                logger.info("Ballerina analysis successful!");
+            } else if (!context.isCancelled()) {
+                logger.error("Unable to analyze Ballerina file batch!");
+            }
+        } catch (IOException | UncheckedIOException e) {
             throw new RuntimeException("Unable to retrieve analysis results: " + e.getMessage(), e);
+        } catch (IllegalStateException | JsonParseException e) {
+            throw new RuntimeException("Unable to report analysis results: " + e.getMessage(), e);
+        }
+        saveSyntaxData(context, pathAndInputFiles, report.resolveSibling(SYNTAX_DATA_FILE_PATH));
+    }
+
+    /**
+     * Saves the syntax highlighting and symbols written by the platform plugin next to a report, when present.
+     * They only enrich the analysis, so failing to read them does not fail the sensor.
+     */
+    private void saveSyntaxData(SensorContext context, Map<String, InputFile> pathAndInputFiles, Path syntaxData) {
+        if (!Files.isRegularFile(syntaxData)) {
+            return;
+        }
+        try {
+            SyntaxDataReport.Counts counts = SyntaxDataReport.save(context, syntaxData, pathAndInputFiles,
+                    highlightedFiles);
+            logger.debug("Saved the syntax highlighting of {} and the symbols of {} Ballerina file(s)",
+                    counts.highlightedFiles(), counts.symbolFiles());
+            if (counts.rejectedHighlightings() > 0 || counts.rejectedSymbolTables() > 0) {
+                logger.warn("Unable to save the syntax highlighting of {} and the symbols of {} Ballerina file(s)",
+                        counts.rejectedHighlightings(), counts.rejectedSymbolTables());
+            }
+        } catch (IOException | IllegalStateException | JsonParseException e) {
+            logger.warn("Unable to read the syntax highlighting and symbols at {}: {}", syntaxData, e.getMessage());
         }
     }
 
-    private void reportFileContent(SensorContext context,
-                                   Map<String, InputFile> pathAndInputFiles,
-                                   String fileContent) {
+    void reportFileContent(SensorContext context,
+                           Map<String, InputFile> pathAndInputFiles,
+                           String fileContent) {
         try {
+            ReportDecodeEvent reportDecodeEvent = new ReportDecodeEvent();
+            reportDecodeEvent.begin();
+            long parseStart = System.nanoTime();
             JsonArray balScanOutput = JsonParser.parseString(fileContent).getAsJsonArray();
+            statistics.addDuration(Phase.REPORT_PARSE, parseStart);
+            if (reportDecodeEvent.shouldCommit()) {
+                reportDecodeEvent.bytes = utf8Length(fileContent);
+                reportDecodeEvent.issueCount = balScanOutput.size();
+                reportDecodeEvent.commit();
+            }
             boolean reportingSuccessful = reportAnalysisIssues(context, balScanOutput, pathAndInputFiles);
             if (reportingSuccessful) {
                 logger.info("Ballerina analysis successful!");
                 return;
             }
+            if (context.isCancelled()) {
+                return;
+            }
             logger.error("Unable to analyze Ballerina file batch!");
         } catch (JsonSyntaxException e) {
             throw new RuntimeException("Unable to report analysis results: " + e.getMessage(), e);
@@ -171,77 +520,218 @@ class BallerinaSensor implements Sensor {
         if (analysisIssues == null) {
             return false;
         }
-        for (JsonElement issueElement : analysisIssues) {
-            JsonObject issue = issueElement.getAsJsonObject();
-            String absoluteFilePath = issue.get(ISSUE_FILE_PATH).getAsString();
-            InputFile inputFile = pathAndInputFiles.get(absoluteFilePath);
-            String issueType = issue.get(ISSUE_SOURCE).getAsString();
-            switch (issueType) {
-                case BUILT_IN -> reportIssue(inputFile, context, issue, true);
-                case EXTERNAL -> reportIssue(inputFile, context, issue, false);
-                default -> logger.error("Invalid issue format!");
+        IssueTable issues = IssueTable.of(analysisIssues);
+        issues.sortByFilePath();
+        return reportAnalysisIssues(context, List.of(issues).iterator(), pathAndInputFiles, issues.filePaths(),
+                issues.size());
+    }
+
+    private boolean reportAnalysisIssues(SensorContext context, Iterator<IssueTable> analysisIssues,
+                                         Map<String, InputFile> pathAndInputFiles, Iterable<String> filePaths,
+                                         int expectedIssues) {
+        ProgressReport progressReport = new ProgressReport("Report about progress of Ballerina issue reporting",
+                TimeUnit.SECONDS.toMillis(PROGRESS_REPORT_PERIOD_SECONDS));
+        progressReport.start(filePaths);
+        Set<String> visitedFilePaths = new HashSet<>();
+        LongHashSet issueFingerprints = new LongHashSet(expectedIssues);
+        IssueBatchEvent batchEvent = new IssueBatchEvent();
+        batchEvent.begin();
+        // Issues are grouped by file, so the input file and its line lengths are only resolved once per file
+        String currentFilePath = null;
+        InputFile inputFile = null;
+        LineLengthTable lineLengths = null;
+        int issueIndex = 0;
+        boolean success = false;
+        try {
+            while (analysisIssues.hasNext()) {
+                IssueTable issues = analysisIssues.next();
+                for (int row = 0; row < issues.size(); row++) {
+                    if (issueIndex++ % ISSUE_BATCH_SIZE == 0 && context.isCancelled()) {
+                        logger.info("Ballerina analysis cancelled, stopping the issue reporting");
+                        return false;
+                    }
+                    if (batchEvent.issuesRead == ISSUE_BATCH_SIZE) {
+                        batchEvent.commit();
+                        batchEvent = new IssueBatchEvent();
+                        batchEvent.begin();
+                    }
+                    batchEvent.issuesRead++;
+                    statistics.increment(Counter.ISSUES_READ);
+                    String absoluteFilePath = issues.filePath(row);
+                    if (!absoluteFilePath.equals(currentFilePath)) {
+                        long resolutionStart = System.nanoTime();
+                        currentFilePath = absoluteFilePath;
+                        inputFile = pathAndInputFiles.get(absoluteFilePath);
+                        lineLengths = null;
+                        statistics.addDuration(Phase.PATH_RESOLUTION, resolutionStart);
+                        if (visitedFilePaths.add(absoluteFilePath)) {
+                            progressReport.nextFile();
+                            if (inputFile == null) {
+                                statistics.addUnresolvedPath(absoluteFilePath);
+                            }
+                        }
+                    }
+                    String ruleID = issues.ruleId(row);
+                    int startLine = issues.startLine(row);
+                    int startLineOffset = issues.startLineOffset(row);
+                    int endLine = issues.endLine(row);
+                    int endLineOffset = issues.endLineOffset(row);
+                    long fingerprint = IssueFingerprint.of(ruleID, absoluteFilePath, startLine, startLineOffset,
+                            endLine, endLineOffset);
+                    if (!issueFingerprints.add(fingerprint)) {
+                        statistics.increment(Counter.DUPLICATE_ISSUES);
+                        continue;
+                    }
+                    if (inputFile == null) {
+                        logger.debug("Skipping issue reported on a file that is not indexed: {}", absoluteFilePath);
+                        statistics.increment(Counter.UNRESOLVED_ISSUES);
+                        continue;
+                    }
+                    if (lineLengths == null) {
+                        lineLengths = LineLengthTable.of(inputFile);
+                    }
+                    TextRange textRange = lineLengths.range(startLine + SONAR_SCANNER_OFFSET, startLineOffset,
+                            endLine + SONAR_SCANNER_OFFSET, endLineOffset);
+                    if (textRange == null) {
+                        logger.debug("Dropping issue {} with an out of range location in {}", ruleID, absoluteFilePath);
+                        statistics.increment(Counter.DROPPED_LOCATIONS);
+                        continue;
+                    }
+                    if (LineLengthTable.isClamped(textRange, startLine + SONAR_SCANNER_OFFSET, startLineOffset,
+                            endLine + SONAR_SCANNER_OFFSET, endLineOffset)) {
+                        statistics.increment(Counter.CLAMPED_LOCATIONS);
+                    }
+                    if (!issueCaps.admit(ruleID, absoluteFilePath)) {
+                        statistics.increment(Counter.SUPPRESSED_ISSUES);
+                        continue;
+                    }
+                    String issueType = issues.source(row);
+                    long saveStart = System.nanoTime();
+                    switch (issueType) {
+                        case BUILT_IN -> {
+                            ReportedRule rule = reportedRule(ruleID, null);
+                            reportIssue(context, inputFile, rule, issues.message(row), textRange);
+                        }
+                        case EXTERNAL -> {
+                            ReportedRule rule = reportedRule(ruleID, issues.ruleKind(row));
+                            reportExternalIssue(context, inputFile, rule, issues.message(row), textRange);
+                        }
+                        default -> {
+                            logger.error("Invalid issue format!");
+                            statistics.increment(Counter.INVALID_ISSUES);
+                            continue;
+                        }
+                    }
+                    statistics.addDuration(Phase.ISSUE_SAVE, saveStart);
+                    statistics.increment(Counter.ISSUES_SAVED);
+                    batchEvent.issuesSaved++;
+                }
+            }
+            success = true;
+            long duplicateIssues = statistics.get(Counter.DUPLICATE_ISSUES);
+            if (duplicateIssues > 0) {
+                logger.info("Dropped {} duplicate Ballerina issues", duplicateIssues);
+            }
+            long clampedLocations = statistics.get(Counter.CLAMPED_LOCATIONS);
+            long droppedLocations = statistics.get(Counter.DROPPED_LOCATIONS);
+            if (clampedLocations > 0 || droppedLocations > 0) {
+                logger.warn("Fitted {} and dropped {} Ballerina issue locations that are out of the range of their "
+                        + "file", clampedLocations, droppedLocations);
+            }
+            issueCaps.log(logger);
+        } finally {
+            batchEvent.commit();
+            if (success) {
+                progressReport.stop();
+            } else {
+                progressReport.cancel();
             }
         }
         return true;
     }
 
-    public void reportIssue(InputFile inputFile, SensorContext context, JsonObject balScanOutput,
-                             boolean builtInIssue) {
-        String ruleID = balScanOutput.get(ISSUE_RULE_ID).getAsString();
-        String message = balScanOutput.get(ISSUE_MESSAGE).getAsString();
-        int startLine = balScanOutput.get(ISSUE_START_LINE).getAsInt();
-        int startLineOffset = balScanOutput.get(ISSUE_START_LINE_OFFSET).getAsInt();
-        int endLine = balScanOutput.get(ISSUE_END_LINE).getAsInt();
-        int endLineOffset = balScanOutput.get(ISSUE_END_LINE_OFFSET).getAsInt();
-        RuleKey ruleKey = RuleKey.of(RULE_REPOSITORY_KEY, ruleID);
-        if (builtInIssue) {
-            context.newIssue()
-                    .forRule(ruleKey)
-                    .at(context.newIssue()
-                            .newLocation()
-                            .on(inputFile)
-                            .at(inputFile.newRange(startLine + SONAR_SCANNER_OFFSET,
-                                    startLineOffset,
-                                    endLine + SONAR_SCANNER_OFFSET,
-                                    endLineOffset))
-                            .message(message)
-                    )
-                    .save();
-            return;
+    private void reportStatistics(Path workDir) {
+        statistics.log(logger);
+        try {
+            Files.createDirectories(workDir);
+            statistics.writeTo(workDir.resolve(STATISTICS_FILE_PATH));
+        } catch (IOException e) {
+            logger.warn("Unable to write the Ballerina analysis statistics: {}", e.getMessage());
         }
+    }
+
+    /**
+     * Returns the cached rule for the given rule id, creating it on first use.
+     * The cached rule holds the interned rule id, its {@link RuleKey} and, once an external issue provides the rule
+     * kind, its {@link RuleType}, so that they are not recomputed for every issue of the rule.
+     */
+    private ReportedRule reportedRule(String ruleID, String ruleKind) {
+        ReportedRule rule = reportedRules.get(ruleID);
+        if (rule == null) {
+            rule = new ReportedRule(ruleID, RuleKey.of(RULE_REPOSITORY_KEY, ruleID));
+            reportedRules.put(ruleID, rule);
+        }
+        if (rule.ruleType == null && ruleKind != null) {
+            rule.ruleType = switch (ruleKind) {
+                case BUG -> RuleType.BUG;
+                case VULNERABILITY -> RuleType.VULNERABILITY;
+                default -> RuleType.CODE_SMELL;
+            };
+        }
+        return rule;
+    }
+
+    private static void reportIssue(SensorContext context, InputFile inputFile, ReportedRule rule, String message,
+                                    TextRange textRange) {
+        NewIssue newIssue = context.newIssue();
+        newIssue.forRule(rule.ruleKey)
+                .at(newIssue.newLocation()
+                        .on(inputFile)
+                        .at(textRange)
+                        .message(message))
+                .save();
+    }
 
-        String ruleKind = balScanOutput.get(ISSUE_RULE_KIND).getAsString();
-        RuleType ruleType = switch (ruleKind) {
-            case BUG -> RuleType.BUG;
-            case VULNERABILITY -> RuleType.VULNERABILITY;
-            default -> RuleType.CODE_SMELL;
-        };
-        if (!externalRules.contains(ruleID)) {
+    private static void reportExternalIssue(SensorContext context, InputFile inputFile, ReportedRule rule,
+                                            String message, TextRange textRange) {
+        RuleType ruleType = rule.ruleType;
+        if (!rule.adHocRuleSaved) {
             context.newAdHocRule()
                     .engineId("ballerina_external_analyzer")
-                    .ruleId(ruleID)
-                    .name(ruleID)
+                    .ruleId(rule.ruleID)
+                    .name(rule.ruleID)
                     .type(ruleType)
                     .severity(Severity.MAJOR)
                     .description(message)
                     .save();
-            externalRules.add(ruleID);
+            rule.adHocRuleSaved = true;
         }
 
-        context.newExternalIssue()
-                .engineId("ballerina_external_analyzer")
-                .ruleId(ruleID)
+        NewExternalIssue newExternalIssue = context.newExternalIssue();
+        newExternalIssue.engineId("ballerina_external_analyzer")
+                .ruleId(rule.ruleID)
                 .type(ruleType)
                 .severity(Severity.MAJOR)
                 .remediationEffortMinutes(10L)
-                .at(context.newIssue()
-                        .newLocation()
+                .at(newExternalIssue.newLocation()
                         .on(inputFile)
-                        .at(inputFile.newRange(startLine + SONAR_SCANNER_OFFSET,
-                                startLineOffset,
-                                endLine + SONAR_SCANNER_OFFSET,
-                                endLineOffset))
+                        .at(textRange)
                         .message(message))
                 .save();
     }
+
+    /**
+     * Per-rule state shared by all the issues of a rule in a report.
+     */
+    private static final class ReportedRule {
+        private final String ruleID;
+        private final RuleKey ruleKey;
+        private RuleType ruleType;
+        private boolean adHocRuleSaved;
+
+        private ReportedRule(String ruleID, RuleKey ruleKey) {
+            this.ruleID = ruleID;
+            this.ruleKey = ruleKey;
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.Sensor;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.batch.sensor.SensorDescriptor;
+import org.sonar.api.measures.CoreMetrics;
+import org.sonar.api.measures.Metric;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.ballerina.sonar.Constants.TESTS_DIRECTORY;
+import static io.ballerina.sonar.Constants.TEST_RESULTS_REPORT_PATHS_DEFAULT_VALUE;
+import static io.ballerina.sonar.Constants.TEST_RESULTS_REPORT_PATHS_KEY;
+
+/**
+ * Imports the test execution results of the {@code test_results.json} reports written by {@code bal test}.
+ * The reports are streamed and the results are aggregated per test source file in primitive counters, so that the
+ * memory used does not depend on the number of tests. Reports of different packages are read in parallel and the
+ * measures are saved from the sensor thread once all of them are read.
+ *
+ * @since 0.2.0
+ */
+class BallerinaTestSensor implements Sensor {
+    private static final Pattern FUNCTION_DECLARATION = Pattern.compile(
+            "^\\s*(?:(?:public|private|isolated)\\s+)*function\\s+([A-Za-z_][A-Za-z0-9_]*)\\s*\\(",
+            Pattern.MULTILINE);
+    private static final char DATA_SET_SEPARATOR = '#';
+    private static final String PASSED = "PASSED";
+    private static final String FAILURE = "FAILURE";
+    private static final String SKIPPED = "SKIPPED";
+
+    // Indexes of the counters of a test source file
+    private static final int TESTS = 0;
+    private static final int FAILURES = 1;
+    private static final int ERRORS = 2;
+    private static final int SKIPPED_TESTS = 3;
+    private static final int EXECUTION_TIME = 4;
+    private static final int TIMED_TESTS = 5;
+    private static final int COUNTERS = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(BallerinaTestSensor.class);
+    private final BallerinaLanguage language;
+
+    public BallerinaTestSensor(BallerinaLanguage language) {
+        this.language = language;
+    }
+
+    @Override
+    public void describe(SensorDescriptor descriptor) {
+        descriptor.onlyOnLanguage(language.getKey()).name(language.getName() + " Test Sensor");
+    }
+
+    @Override
+    public void execute(SensorContext context) {
+        Path baseDir = context.fileSystem().baseDir().toPath();
+        List<Path> reports = BallerinaModules.reports(context.config(), baseDir, TEST_RESULTS_REPORT_PATHS_KEY,
+                TEST_RESULTS_REPORT_PATHS_DEFAULT_VALUE);
+        if (reports.isEmpty()) {
+            logger.debug("No Ballerina test results report found");
+            return;
+        }
+        InputFileIndex inputFileIndex = InputFileIndex.of(context.fileSystem(), language.getKey());
+        int threads = Math.min(reports.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Map<InputFile, long[]> fileCounters = new HashMap<>();
+        try {
+            List<Future<ReportResults>> results = new ArrayList<>();
+            for (Path report : reports) {
+                Path packageRoot = BallerinaModules.packageRoot(report, baseDir);
+                results.add(executor.submit(() -> readReport(inputFileIndex, report, packageRoot)));
+            }
+            for (int i = 0; i < reports.size(); i++) {
+                try {
+                    ReportResults reportResults = results.get(i).get();
+                    reportResults.fileCounters().forEach((inputFile, counters) ->
+                            add(fileCounters.computeIfAbsent(inputFile, key -> new long[COUNTERS]), counters));
+                    logger.info("Imported the results of {} Ballerina test(s) from {}, {} test(s) are not found " +
+                            "in the indexed files", reportResults.importedTests(), reports.get(i),
+                            reportResults.unresolvedTests());
+                } catch (ExecutionException e) {
+                    logger.error("Unable to import the Ballerina test results report {}: {}", reports.get(i),
+                            e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while importing the Ballerina test results");
+            return;
+        } finally {
+            executor.shutdownNow();
+        }
+        fileCounters.forEach((inputFile, counters) -> saveMeasures(context, inputFile, counters));
+    }
+
+    private ReportResults readReport(InputFileIndex inputFileIndex, Path report, Path packageRoot)
+            throws IOException {
+        Map<Path, Map<String, InputFile>> testFunctionsByDirectory = new HashMap<>();
+        Map<InputFile, long[]> fileCounters = new HashMap<>();
+        int[] importedTests = new int[1];
+        int[] unresolvedTests = new int[1];
+        TestResultsReader.read(report, (moduleName, testName, status, durationMillis) -> {
+            InputFile inputFile = resolve(inputFileIndex, testFunctionsByDirectory, packageRoot, moduleName,
+                    testFunctionName(testName));
+            if (inputFile == null) {
+                logger.debug("Skipping the result of a test that is not found in the indexed files: {}", testName);
+                unresolvedTests[0]++;
+                return;
+            }
+            count(fileCounters.computeIfAbsent(inputFile, key -> new long[COUNTERS]), status, durationMillis);
+            importedTests[0]++;
+        });
+        return new ReportResults(fileCounters, importedTests[0], unresolvedTests[0]);
+    }
+
+    private static void count(long[] counters, String status, long durationMillis) {
+        switch (status) {
+            case PASSED -> counters[TESTS]++;
+            case FAILURE -> {
+                counters[TESTS]++;
+                counters[FAILURES]++;
+            }
+            case SKIPPED -> counters[SKIPPED_TESTS]++;
+            default -> {
+                counters[TESTS]++;
+                counters[ERRORS]++;
+            }
+        }
+        if (durationMillis != TestResultsReader.UNKNOWN_DURATION) {
+            counters[EXECUTION_TIME] += durationMillis;
+            counters[TIMED_TESTS]++;
+        }
+    }
+
+    private static void add(long[] counters, long[] otherCounters) {
+        for (int i = 0; i < COUNTERS; i++) {
+            counters[i] += otherCounters[i];
+        }
+    }
+
+    private static void saveMeasures(SensorContext context, InputFile inputFile, long[] counters) {
+        saveMeasure(context, inputFile, CoreMetrics.TESTS, (int) counters[TESTS]);
+        saveMeasure(context, inputFile, CoreMetrics.TEST_FAILURES, (int) counters[FAILURES]);
+        saveMeasure(context, inputFile, CoreMetrics.TEST_ERRORS, (int) counters[ERRORS]);
+        saveMeasure(context, inputFile, CoreMetrics.SKIPPED_TESTS, (int) counters[SKIPPED_TESTS]);
+        if (counters[TIMED_TESTS] > 0) {
+            context.<Long>newMeasure()
+                    .on(inputFile)
+                    .forMetric(CoreMetrics.TEST_EXECUTION_TIME)
+                    .withValue(counters[EXECUTION_TIME])
+                    .save();
+        }
+    }
+
+    private static void saveMeasure(SensorContext context, InputFile inputFile, Metric<Integer> metric, int value) {
+        context.<Integer>newMeasure()
+                .on(inputFile)
+                .forMetric(metric)
+                .withValue(value)
+                .save();
+    }
+
+    /**
+     * Returns the name of the test function of a test, without the data set suffix of data driven tests.
+     */
+    private static String testFunctionName(String testName) {
+        int separator = testName.indexOf(DATA_SET_SEPARATOR);
+        return separator < 0 ? testName : testName.substring(0, separator);
+    }
+
+    /**
+     * Resolves the file declaring a test function in the {@code tests} directories of the candidate directories of
+     * its module. The functions declared in a directory are only looked up once per report.
+     */
+    private InputFile resolve(InputFileIndex inputFileIndex, Map<Path, Map<String, InputFile>> testFunctionsByDirectory,
+                              Path packageRoot, String moduleName, String functionName) {
+        for (Path moduleDirectory : BallerinaModules.moduleDirectories(packageRoot, moduleName)) {
+            InputFile inputFile = testFunctionsByDirectory
+                    .computeIfAbsent(moduleDirectory.resolve(TESTS_DIRECTORY),
+                            testsDirectory -> testFunctions(inputFileIndex, testsDirectory))
+                    .get(functionName);
+            if (inputFile != null) {
+                return inputFile;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, InputFile> testFunctions(InputFileIndex inputFileIndex, Path testsDirectory) {
+        Map<String, InputFile> testFunctions = new HashMap<>();
+        for (InputFile inputFile : inputFileIndex.filesUnder(testsDirectory)) {
+            try {
+                Matcher matcher = FUNCTION_DECLARATION.matcher(inputFile.contents());
+                while (matcher.find()) {
+                    testFunctions.putIfAbsent(matcher.group(1), inputFile);
+                }
+            } catch (IOException e) {
+                logger.debug("Unable to read the test file {}: {}", inputFile, e.getMessage());
+            }
+        }
+        return testFunctions;
+    }
+
+    private record ReportResults(Map<InputFile, long[]> fileCounters, int importedTests, int unresolvedTests) {
+    }
+}
@@ -42,6 +42,8 @@ public final class Constants {
 
     // Sensor
     static final String ANALYSIS_RESULTS_FILE_PATH = "analyzedResultsPath";
+    static final String BAL_EXECUTABLE = "bal";
+    static final String BAL_WINDOWS_EXECUTABLE = "bal.bat";
     static final String ISSUES_FILE_PATH = "ballerina-static-code-analysis-results.json";
     static final String ISSUE_FILE_PATH = "filePath";
     static final String ISSUE_SOURCE = "source";
@@ -57,4 +59,40 @@ public final class Constants {
     static final String BUG = "BUG";
     static final String VULNERABILITY = "VULNERABILITY";
     static final int SONAR_SCANNER_OFFSET = 1;
+    static final String STATISTICS_FILE_PATH = "ballerina-analysis-statistics.json";
+    static final String SYNTAX_DATA_FILE_PATH = "ballerina-syntax-data.json";
+    static final String SYNTAX_DATA_HIGHLIGHTING = "highlighting";
+    static final String SYNTAX_DATA_SYMBOLS = "symbols";
+    static final long PROGRESS_REPORT_PERIOD_SECONDS = 10;
+    static final int ISSUE_BATCH_SIZE = 1000;
+    static final int ISSUE_GROUPING_BUFFER_SIZE = 1_000_000;
+    static final String MAX_ISSUES_PER_RULE_KEY = "sonar.ballerina.issues.maxPerRule";
+    static final String MAX_ISSUES_PER_FILE_KEY = "sonar.ballerina.issues.maxPerFile";
+    static final String MAX_ISSUES_TOTAL_KEY = "sonar.ballerina.issues.maxTotal";
+    static final String BALLERINA_TOML = "Ballerina.toml";
+    static final String ACTIVE_RULES_ONLY_KEY = "sonar.ballerina.rules.activeOnly";
+    static final long CANCELLATION_POLL_MILLIS = 500;
+    static final int UNKNOWN_EXIT_CODE = -1;
+    static final long PROCESS_DESTROY_TIMEOUT_SECONDS = 5;
+    static final String BUILD_TARGET_DIRECTORY = "target";
+    static final String SHADOW_WORKSPACE_DIRECTORY = "ballerina-shadow-workspace";
+    static final String REPORT_MANIFEST_FILE_NAME = "manifest.json";
+    static final int REPORT_MANIFEST_VERSION = 1;
+    static final String REPORT_MANIFEST_VERSION_PROPERTY = "version";
+    static final String REPORT_MANIFEST_ISSUE_COUNT = "issueCount";
+    static final String REPORT_MANIFEST_SHARDS = "shards";
+    static final String REPORT_MANIFEST_SHARD_PATH = "path";
+
+    // Coverage sensor
+    static final String COVERAGE_REPORT_PATHS_KEY = "sonar.ballerina.coverage.reportPaths";
+    static final String COVERAGE_REPORT_PATHS_DEFAULT_VALUE = "target/report/test_results.json";
+    static final String MODULES_DIRECTORY = "modules";
+
+    // Test sensor
+    static final String TEST_RESULTS_REPORT_PATHS_KEY = "sonar.ballerina.testResults.reportPaths";
+    static final String TEST_RESULTS_REPORT_PATHS_DEFAULT_VALUE = "target/report/test_results.json";
+    static final String TESTS_DIRECTORY = "tests";
+
+    // Metrics sensor
+    static final int METRICS_BATCH_SIZE = 256;
 }
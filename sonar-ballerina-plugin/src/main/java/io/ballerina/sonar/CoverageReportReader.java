@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams the coverage of the {@code test_results.json} report written by {@code bal test --code-coverage}.
+ * Source files are read one at a time from {@code moduleCoverage[].sourceFiles[]} and handed to a consumer, and
+ * their {@code sourceCode} is skipped without being materialized, so the memory used does not grow with the
+ * report.
+ *
+ * @since 0.2.0
+ */
+final class CoverageReportReader {
+    private static final String MODULE_COVERAGE = "moduleCoverage";
+    private static final String SOURCE_FILES = "sourceFiles";
+    private static final String NAME = "name";
+    private static final String COVERED_LINES = "coveredLines";
+    private static final String MISSED_LINES = "missedLines";
+
+    private CoverageReportReader() {
+    }
+
+    /**
+     * Coverage of a source file of a module.
+     *
+     * @param moduleName   name of the module, e.g. {@code pkg} or {@code pkg.utils}
+     * @param fileName     name of the source file as written in the report
+     * @param coveredLines covered line numbers
+     * @param missedLines  missed line numbers
+     */
+    record SourceFileCoverage(String moduleName, String fileName, int[] coveredLines, int[] missedLines) {
+        SourceFileCoverage {
+            coveredLines = coveredLines.clone();
+            missedLines = missedLines.clone();
+        }
+
+        @Override
+        public int[] coveredLines() {
+            return coveredLines.clone();
+        }
+
+        @Override
+        public int[] missedLines() {
+            return missedLines.clone();
+        }
+    }
+
+    static void read(Path report, Consumer<SourceFileCoverage> consumer) throws IOException {
+        try (Reader reader = Files.newBufferedReader(report, StandardCharsets.UTF_8);
+             JsonReader jsonReader = new JsonReader(reader)) {
+            read(jsonReader, consumer);
+        }
+    }
+
+    static void read(JsonReader jsonReader, Consumer<SourceFileCoverage> consumer) throws IOException {
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if (jsonReader.nextName().equals(MODULE_COVERAGE) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    readModule(jsonReader, consumer);
+                }
+                jsonReader.endArray();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+    }
+
+    private static void readModule(JsonReader jsonReader, Consumer<SourceFileCoverage> consumer) throws IOException {
+        String moduleName = null;
+        // Only used if the source files are written before the module name
+        List<SourceFileCoverage> pendingFiles = new ArrayList<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            if (name.equals(NAME)) {
+                moduleName = jsonReader.nextString();
+            } else if (name.equals(SOURCE_FILES) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    SourceFileCoverage coverage = readSourceFile(jsonReader, moduleName);
+                    if (moduleName != null) {
+                        consumer.accept(coverage);
+                    } else {
+                        pendingFiles.add(coverage);
+                    }
+                }
+                jsonReader.endArray();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        for (SourceFileCoverage coverage : pendingFiles) {
+            consumer.accept(new SourceFileCoverage(moduleName, coverage.fileName(), coverage.coveredLines(),
+                    coverage.missedLines()));
+        }
+    }
+
+    private static SourceFileCoverage readSourceFile(JsonReader jsonReader, String moduleName) throws IOException {
+        String fileName = null;
+        int[] coveredLines = new int[0];
+        int[] missedLines = new int[0];
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            switch (jsonReader.nextName()) {
+                case NAME -> fileName = jsonReader.nextString();
+                case COVERED_LINES -> coveredLines = readLines(jsonReader);
+                case MISSED_LINES -> missedLines = readLines(jsonReader);
+                default -> jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        return new SourceFileCoverage(moduleName, fileName, coveredLines, missedLines);
+    }
+
+    private static int[] readLines(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+            jsonReader.skipValue();
+            return new int[0];
+        }
+        int[] lines = new int[16];
+        int count = 0;
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            if (count == lines.length) {
+                lines = Arrays.copyOf(lines, count * 2);
+            }
+            lines[count++] = jsonReader.nextInt();
+        }
+        jsonReader.endArray();
+        return Arrays.copyOf(lines, count);
+    }
+}
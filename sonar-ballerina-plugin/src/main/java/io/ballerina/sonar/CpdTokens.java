@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.sensor.cpd.NewCpdTokens;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copy-paste detection tokens of a Ballerina source, produced by a hand-written lexer.
+ * String, template and numeric literals are normalized to {@link #LITERAL} and identifiers other than keywords to
+ * {@link #IDENTIFIER}, so that copies differing only by their names and values are detected. Comments and
+ * documentation lines are skipped. The tokens are stored in a single {@code int} array and their images are shared
+ * constants, so that tokenizing allocates next to nothing per token.
+ *
+ * @since 0.2.0
+ */
+final class CpdTokens {
+    static final String LITERAL = "LITERAL";
+    static final String IDENTIFIER = "IDENTIFIER";
+
+    private static final String[] KEYWORDS = {
+            "abort", "annotation", "any", "anydata", "ascending", "base16", "base64", "boolean", "break", "by",
+            "byte", "check", "checkpanic", "class", "client", "collect", "commit", "committed", "configurable",
+            "conflict", "const", "continue", "decimal", "descending", "distinct", "do", "else", "enum", "equals",
+            "error", "fail", "false", "final", "float", "foreach", "from", "function", "future", "group", "handle",
+            "if", "import", "in", "int", "is", "isolated", "join", "json", "key", "let", "limit", "listener", "lock",
+            "map", "match", "natural", "never", "new", "null", "object", "on", "order", "outer", "panic", "private",
+            "public", "re", "readonly", "record", "remote", "resource", "retry", "return", "returns", "rollback",
+            "select", "service", "start", "stream", "string", "table", "trap", "transaction", "transactional",
+            "true", "type", "typedesc", "typeof", "var", "wait", "where", "while", "worker", "xml", "xmlns"
+    };
+    // Longest first, so that an operator is matched before its prefixes
+    private static final String[] OPERATORS = {
+            ">>>=", "...", "..<", "===", "!==", ">>>", "<<=", ">>=", "==", "!=", "=>", "->", "<-", "&&", "||",
+            ">=", "<=", "+=", "-=", "*=", "/=", "&=", "|=", "^=", "?:", "?.", ".@", "::", "<<", ">>"
+    };
+    private static final int FIELDS = 5;
+    private static final int LITERAL_ID = 0;
+    private static final int IDENTIFIER_ID = 1;
+    private static final int KEYWORD_TABLE_SIZE = 512;
+    private static final String[] IMAGES;
+    private static final int FIRST_OPERATOR_ID;
+    private static final int FIRST_CHARACTER_ID;
+    // Open addressing table of the keyword image ids, by the hash of the keyword
+    private static final int[] KEYWORD_IDS = new int[KEYWORD_TABLE_SIZE];
+
+    static {
+        List<String> images = new ArrayList<>(List.of(LITERAL, IDENTIFIER));
+        Arrays.fill(KEYWORD_IDS, -1);
+        for (String keyword : KEYWORDS) {
+            int slot = hash(keyword, 0, keyword.length()) & (KEYWORD_TABLE_SIZE - 1);
+            while (KEYWORD_IDS[slot] != -1) {
+                slot = (slot + 1) & (KEYWORD_TABLE_SIZE - 1);
+            }
+            KEYWORD_IDS[slot] = images.size();
+            images.add(keyword);
+        }
+        FIRST_OPERATOR_ID = images.size();
+        images.addAll(List.of(OPERATORS));
+        FIRST_CHARACTER_ID = images.size();
+        for (char c = 0; c < 128; c++) {
+            images.add(String.valueOf(c));
+        }
+        IMAGES = images.toArray(new String[0]);
+    }
+
+    private int[] tokens = new int[FIELDS * 256];
+    private final List<String> otherImages = new ArrayList<>();
+    private int size;
+
+    private CpdTokens() {
+    }
+
+    /**
+     * Tokenizes the contents of a source file.
+     *
+     * @param contents contents of the file
+     * @return the tokens of the file
+     */
+    static CpdTokens tokenize(CharSequence contents) {
+        CpdTokens cpdTokens = new CpdTokens();
+        new Lexer(contents, cpdTokens).run();
+        return cpdTokens;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String image(int token) {
+        int imageId = tokens[token * FIELDS + 4];
+        return imageId < IMAGES.length ? IMAGES[imageId] : otherImages.get(imageId - IMAGES.length);
+    }
+
+    /**
+     * Adds the tokens, in order, to the copy-paste detection tokens of their file.
+     *
+     * @param newCpdTokens copy-paste detection tokens of the file
+     */
+    void addTo(NewCpdTokens newCpdTokens) {
+        for (int token = 0; token < size; token++) {
+            int index = token * FIELDS;
+            newCpdTokens.addToken(tokens[index], tokens[index + 1], tokens[index + 2], tokens[index + 3],
+                    image(token));
+        }
+    }
+
+    private void add(int startLine, int startLineOffset, int endLine, int endLineOffset, int imageId) {
+        int index = size * FIELDS;
+        if (index == tokens.length) {
+            tokens = Arrays.copyOf(tokens, tokens.length * 2);
+        }
+        tokens[index] = startLine;
+        tokens[index + 1] = startLineOffset;
+        tokens[index + 2] = endLine;
+        tokens[index + 3] = endLineOffset;
+        tokens[index + 4] = imageId;
+        size++;
+    }
+
+    private int otherImageId(String image) {
+        otherImages.add(image);
+        return IMAGES.length + otherImages.size() - 1;
+    }
+
+    private static int hash(CharSequence chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        return hash ^ (hash >>> 9);
+    }
+
+    private static int keywordId(CharSequence chars, int start, int end) {
+        int slot = hash(chars, start, end) & (KEYWORD_TABLE_SIZE - 1);
+        while (KEYWORD_IDS[slot] != -1) {
+            if (regionEquals(IMAGES[KEYWORD_IDS[slot]], chars, start, end)) {
+                return KEYWORD_IDS[slot];
+            }
+            slot = (slot + 1) & (KEYWORD_TABLE_SIZE - 1);
+        }
+        return IDENTIFIER_ID;
+    }
+
+    private static boolean regionEquals(String keyword, CharSequence chars, int start, int end) {
+        if (keyword.length() != end - start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (keyword.charAt(i - start) != chars.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Single pass over the characters of a source, tracking the line and line offset of the current character.
+     */
+    private static final class Lexer {
+        private final CharSequence contents;
+        private final CpdTokens cpdTokens;
+        private final int length;
+        private int position;
+        private int line = 1;
+        private int lineStart;
+
+        private Lexer(CharSequence contents, CpdTokens cpdTokens) {
+            this.contents = contents;
+            this.cpdTokens = cpdTokens;
+            this.length = contents.length();
+        }
+
+        private void run() {
+            while (position < length) {
+                char c = contents.charAt(position);
+                if (c == '\n' || c == '\r') {
+                    newLine();
+                } else if (Character.isWhitespace(c)) {
+                    position++;
+                } else if (c == '#' || (c == '/' && peek(1) == '/')) {
+                    skipToEndOfLine();
+                } else {
+                    token(c);
+                }
+            }
+        }
+
+        private void token(char c) {
+            int startLine = line;
+            int startLineOffset = position - lineStart;
+            int imageId;
+            if (c == '"') {
+                string();
+                imageId = LITERAL_ID;
+            } else if (c == '`') {
+                template();
+                imageId = LITERAL_ID;
+            } else if (isDigit(c) || (c == '.' && isDigit(peek(1)))) {
+                number();
+                imageId = LITERAL_ID;
+            } else if (c == '\'' || c == '_' || Character.isLetter(c)) {
+                int start = position;
+                identifier();
+                imageId = c == '\'' ? IDENTIFIER_ID : keywordId(contents, start, position);
+            } else {
+                imageId = operator(c);
+            }
+            cpdTokens.add(startLine, startLineOffset, line, position - lineStart, imageId);
+        }
+
+        private void string() {
+            position++;
+            while (position < length) {
+                char c = contents.charAt(position);
+                if (c == '\n' || c == '\r') {
+                    // Unterminated literal, it ends with its line
+                    return;
+                }
+                position++;
+                if (c == '"') {
+                    return;
+                }
+                if (c == '\\' && position < length && !isLineBreak(contents.charAt(position))) {
+                    position++;
+                }
+            }
+        }
+
+        private void template() {
+            position++;
+            while (position < length) {
+                char c = contents.charAt(position);
+                if (c == '\n' || c == '\r') {
+                    newLine();
+                    continue;
+                }
+                position++;
+                if (c == '`') {
+                    return;
+                }
+            }
+        }
+
+        private void number() {
+            if (contents.charAt(position) == '0' && (peek(1) == 'x' || peek(1) == 'X')) {
+                position += 2;
+                while (position < length && isHexNumberPart(contents.charAt(position))) {
+                    position++;
+                }
+                return;
+            }
+            skipDigits();
+            if (position < length && contents.charAt(position) == '.' && isDigit(peek(1))) {
+                position++;
+                skipDigits();
+            }
+            char c = position < length ? contents.charAt(position) : 0;
+            if ((c == 'e' || c == 'E')
+                    && (isDigit(peek(1)) || ((peek(1) == '+' || peek(1) == '-') && isDigit(peek(2))))) {
+                position += 2;
+                skipDigits();
+                c = position < length ? contents.charAt(position) : 0;
+            }
+            if (c == 'd' || c == 'D' || c == 'f' || c == 'F') {
+                position++;
+            }
+        }
+
+        private void identifier() {
+            position++;
+            while (position < length) {
+                char c = contents.charAt(position);
+                if (c == '\\' && position + 1 < length && !isLineBreak(contents.charAt(position + 1))) {
+                    position += 2;
+                } else if (c == '_' || Character.isLetterOrDigit(c)) {
+                    position++;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private int operator(char c) {
+            for (int i = 0; i < OPERATORS.length; i++) {
+                String operator = OPERATORS[i];
+                if (operator.charAt(0) == c && matches(operator)) {
+                    position += operator.length();
+                    return FIRST_OPERATOR_ID + i;
+                }
+            }
+            position++;
+            if (c < 128) {
+                return FIRST_CHARACTER_ID + c;
+            }
+            return cpdTokens.otherImageId(String.valueOf(c));
+        }
+
+        private boolean matches(String operator) {
+            if (position + operator.length() > length) {
+                return false;
+            }
+            for (int i = 1; i < operator.length(); i++) {
+                if (contents.charAt(position + i) != operator.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void skipDigits() {
+            while (position < length && isDigit(contents.charAt(position))) {
+                position++;
+            }
+        }
+
+        private void skipToEndOfLine() {
+            while (position < length && !isLineBreak(contents.charAt(position))) {
+                position++;
+            }
+        }
+
+        private void newLine() {
+            if (contents.charAt(position) == '\r' && peek(1) == '\n') {
+                position++;
+            }
+            position++;
+            line++;
+            lineStart = position;
+        }
+
+        private char peek(int distance) {
+            int index = position + distance;
+            return index < length ? contents.charAt(index) : 0;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        // Hex floating point literals have a fraction and a binary exponent
+        private static boolean isHexNumberPart(char c) {
+            return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == '.' || c == 'p'
+                    || c == 'P';
+        }
+
+        private static boolean isLineBreak(char c) {
+            return c == '\n' || c == '\r';
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import java.util.Iterator;
+
+/**
+ * Counts the issues of the batches of a report decoded while they are saved, such as the batches of merged or
+ * sharded reports, and times their decoding. For batches decoded ahead on other threads, the time is the time the
+ * sensor waits for them.
+ *
+ * @since 0.2.0
+ */
+final class DecodedIssues implements Iterator<IssueTable> {
+    private final Iterator<IssueTable> batches;
+    private int issueCount;
+    private long decodeNanos;
+
+    DecodedIssues(Iterator<IssueTable> batches) {
+        this.batches = batches;
+    }
+
+    @Override
+    public boolean hasNext() {
+        long start = System.nanoTime();
+        try {
+            return batches.hasNext();
+        } finally {
+            decodeNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public IssueTable next() {
+        long start = System.nanoTime();
+        IssueTable batch;
+        try {
+            batch = batches.next();
+        } finally {
+            decodeNanos += System.nanoTime() - start;
+        }
+        issueCount += batch.size();
+        return batch;
+    }
+
+    /**
+     * Returns the number of issues of the batches returned so far.
+     */
+    int issueCount() {
+        return issueCount;
+    }
+
+    /**
+     * Returns the time spent decoding the batches returned so far, in nanoseconds.
+     */
+    long decodeNanos() {
+        return decodeNanos;
+    }
+}
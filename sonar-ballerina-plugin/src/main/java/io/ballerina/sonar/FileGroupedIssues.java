@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.ballerina.sonar.Constants.ISSUE_BATCH_SIZE;
+
+/**
+ * Issues of a report grouped by file, ordered by file path and keeping the report order of the issues of a file.
+ * Issues are decoded into an {@link IssueTable} sorted in place up to a buffer size, above which sorted runs are
+ * spilled to disk and merged back with {@link MergedIssueReports}, so that reports of any size are grouped with a
+ * bounded memory.
+ *
+ * @since 0.2.0
+ */
+final class FileGroupedIssues implements Iterator<IssueTable>, Closeable {
+    private final Iterator<IssueTable> tables;
+    private final MergedIssueReports mergedRuns;
+    private final List<Path> runs;
+    private final Set<String> filePaths;
+    private final int issueCount;
+
+    private FileGroupedIssues(Iterator<IssueTable> tables, MergedIssueReports mergedRuns, List<Path> runs,
+                              Set<String> filePaths, int issueCount) {
+        this.tables = tables;
+        this.mergedRuns = mergedRuns;
+        this.runs = runs;
+        this.filePaths = filePaths;
+        this.issueCount = issueCount;
+    }
+
+    /**
+     * Groups the issues of a report by file.
+     *
+     * @param reader         reader of the report
+     * @param spillDirectory directory of the sorted runs spilled to disk
+     * @param bufferSize     maximum number of issues sorted in memory
+     * @return the grouped issues, to be closed once read to delete the spilled runs
+     * @throws IOException if a run cannot be spilled or read back
+     */
+    static FileGroupedIssues group(IssueReportReader reader, Path spillDirectory, int bufferSize)
+            throws IOException {
+        IssueTable buffer = new IssueTable();
+        List<Path> runs = new ArrayList<>();
+        Set<String> filePaths = new TreeSet<>();
+        int issueCount = 0;
+        try {
+            while (reader.hasNext()) {
+                reader.readInto(buffer);
+                issueCount++;
+                if (buffer.size() == bufferSize) {
+                    filePaths.addAll(buffer.filePaths());
+                    runs.add(spill(buffer, spillDirectory));
+                    buffer = new IssueTable();
+                }
+            }
+            filePaths.addAll(buffer.filePaths());
+            if (runs.isEmpty()) {
+                buffer.sortByFilePath();
+                return new FileGroupedIssues(Collections.singletonList(buffer).iterator(), null, runs, filePaths,
+                        issueCount);
+            }
+            if (buffer.size() > 0) {
+                runs.add(spill(buffer, spillDirectory));
+            }
+            MergedIssueReports mergedRuns = MergedIssueReports.open(runs);
+            return new FileGroupedIssues(IssueTable.batches(mergedRuns, ISSUE_BATCH_SIZE), mergedRuns, runs,
+                    filePaths, issueCount);
+        } catch (IOException | RuntimeException e) {
+            deleteRuns(runs);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the paths of the files of the issues, in the order their issues are returned.
+     */
+    Set<String> filePaths() {
+        return filePaths;
+    }
+
+    int issueCount() {
+        return issueCount;
+    }
+
+    /**
+     * Returns the number of runs spilled to disk.
+     */
+    int spilledRuns() {
+        return runs.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return tables.hasNext();
+    }
+
+    @Override
+    public IssueTable next() {
+        return tables.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (mergedRuns != null) {
+                mergedRuns.close();
+            }
+        } finally {
+            deleteRuns(runs);
+        }
+    }
+
+    private static Path spill(IssueTable buffer, Path spillDirectory) throws IOException {
+        buffer.sortByFilePath();
+        Files.createDirectories(spillDirectory);
+        Path run = Files.createTempFile(spillDirectory, "ballerina-issues-", ".json");
+        try (Writer writer = Files.newBufferedWriter(run, StandardCharsets.UTF_8);
+             JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginArray();
+            for (int row = 0; row < buffer.size(); row++) {
+                buffer.write(row, jsonWriter);
+            }
+            jsonWriter.endArray();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    private static void deleteRuns(List<Path> runs) throws IOException {
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.fs.FilePredicates;
+import org.sonar.api.batch.fs.FileSystem;
+import org.sonar.api.batch.fs.InputFile;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the Ballerina {@link InputFile}s of the analysis by absolute path.
+ * Reports produced by the Ballerina tools refer to files by path, which the sensors resolve through this index.
+ *
+ * @since 0.2.0
+ */
+final class InputFileIndex {
+    private final Map<String, InputFile> pathAndInputFiles;
+
+    private InputFileIndex(Map<String, InputFile> pathAndInputFiles) {
+        this.pathAndInputFiles = pathAndInputFiles;
+    }
+
+    /**
+     * Indexes the files of the given language.
+     *
+     * @param fileSystem  file system of the analysis
+     * @param languageKey key of the Ballerina language
+     * @return the index
+     */
+    static InputFileIndex of(FileSystem fileSystem, String languageKey) {
+        FilePredicates predicates = fileSystem.predicates();
+        Map<String, InputFile> pathAndInputFiles = new HashMap<>();
+        fileSystem.inputFiles(predicates.hasLanguage(languageKey)).forEach(inputFile ->
+                pathAndInputFiles.put(Path.of(inputFile.uri()).toString(), inputFile));
+        return new InputFileIndex(pathAndInputFiles);
+    }
+
+    InputFile get(Path path) {
+        return pathAndInputFiles.get(path.toAbsolutePath().normalize().toString());
+    }
+
+    /**
+     * Returns the indexed files located in a directory or in one of its subdirectories.
+     *
+     * @param directory directory of the files
+     * @return the files under the directory
+     */
+    List<InputFile> filesUnder(Path directory) {
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        List<InputFile> inputFiles = new ArrayList<>();
+        pathAndInputFiles.forEach((path, inputFile) -> {
+            if (Path.of(path).startsWith(absoluteDirectory)) {
+                inputFiles.add(inputFile);
+            }
+        });
+        return inputFiles;
+    }
+
+    /**
+     * Returns the indexed files keyed by their absolute path.
+     */
+    Map<String, InputFile> asMap() {
+        return pathAndInputFiles;
+    }
+}
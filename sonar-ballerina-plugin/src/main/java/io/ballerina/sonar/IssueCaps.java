@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.slf4j.Logger;
+import org.sonar.api.config.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.sonar.Constants.MAX_ISSUES_PER_FILE_KEY;
+import static io.ballerina.sonar.Constants.MAX_ISSUES_PER_RULE_KEY;
+import static io.ballerina.sonar.Constants.MAX_ISSUES_TOTAL_KEY;
+
+/**
+ * Limits the number of issues saved per rule, per file and overall while a report is being streamed.
+ * Issues beyond a limit are suppressed and counted against the bucket that rejected them, so that a single summary
+ * can be logged per capped rule, file or analysis. A limit that is not configured, or not positive, is unlimited.
+ *
+ * @since 0.2.0
+ */
+final class IssueCaps {
+    private static final int UNLIMITED = 0;
+
+    private final int maxPerRule;
+    private final int maxPerFile;
+    private final int maxTotal;
+    // Each bucket holds the number of admitted and suppressed issues
+    private final Map<String, int[]> ruleBuckets = new HashMap<>();
+    private final Map<String, int[]> fileBuckets = new HashMap<>();
+    private final int[] totalBucket = new int[2];
+
+    IssueCaps(int maxPerRule, int maxPerFile, int maxTotal) {
+        this.maxPerRule = maxPerRule;
+        this.maxPerFile = maxPerFile;
+        this.maxTotal = maxTotal;
+    }
+
+    static IssueCaps unlimited() {
+        return new IssueCaps(UNLIMITED, UNLIMITED, UNLIMITED);
+    }
+
+    static IssueCaps fromConfiguration(Configuration configuration) {
+        return new IssueCaps(configuration.getInt(MAX_ISSUES_PER_RULE_KEY).orElse(UNLIMITED),
+                configuration.getInt(MAX_ISSUES_PER_FILE_KEY).orElse(UNLIMITED),
+                configuration.getInt(MAX_ISSUES_TOTAL_KEY).orElse(UNLIMITED));
+    }
+
+    boolean isUnlimited() {
+        return maxPerRule <= UNLIMITED && maxPerFile <= UNLIMITED && maxTotal <= UNLIMITED;
+    }
+
+    /**
+     * Records an issue against the caps.
+     *
+     * @param ruleID   rule of the issue
+     * @param filePath file of the issue
+     * @return {@code true} if the issue is within all the caps and should be saved
+     */
+    boolean admit(String ruleID, String filePath) {
+        if (isUnlimited()) {
+            return true;
+        }
+        if (isFull(totalBucket, maxTotal)) {
+            totalBucket[1]++;
+            return false;
+        }
+        int[] fileBucket = maxPerFile > UNLIMITED ? fileBuckets.computeIfAbsent(filePath, key -> new int[2]) : null;
+        if (fileBucket != null && isFull(fileBucket, maxPerFile)) {
+            fileBucket[1]++;
+            return false;
+        }
+        int[] ruleBucket = maxPerRule > UNLIMITED ? ruleBuckets.computeIfAbsent(ruleID, key -> new int[2]) : null;
+        if (ruleBucket != null && isFull(ruleBucket, maxPerRule)) {
+            ruleBucket[1]++;
+            return false;
+        }
+        totalBucket[0]++;
+        if (fileBucket != null) {
+            fileBucket[0]++;
+        }
+        if (ruleBucket != null) {
+            ruleBucket[0]++;
+        }
+        return true;
+    }
+
+    /**
+     * Logs one summary per capped bucket with the number of suppressed issues.
+     */
+    void log(Logger logger) {
+        ruleBuckets.forEach((ruleID, bucket) -> {
+            if (bucket[1] > 0) {
+                logger.warn("Suppressed {} issue(s) of rule {} above the limit of {} issues per rule",
+                        bucket[1], ruleID, maxPerRule);
+            }
+        });
+        fileBuckets.forEach((filePath, bucket) -> {
+            if (bucket[1] > 0) {
+                logger.warn("Suppressed {} issue(s) in {} above the limit of {} issues per file",
+                        bucket[1], filePath, maxPerFile);
+            }
+        });
+        if (totalBucket[1] > 0) {
+            logger.warn("Suppressed {} issue(s) above the limit of {} issues per analysis", totalBucket[1], maxTotal);
+        }
+    }
+
+    private static boolean isFull(int[] bucket, int max) {
+        return max > UNLIMITED && bucket[0] >= max;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+/**
+ * Computes the 64-bit fingerprint used to detect duplicate issues in an analysis results report.
+ * Two issues have the same fingerprint when they are reported by the same rule on the same range of the same file.
+ *
+ * @since 0.2.0
+ */
+final class IssueFingerprint {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private IssueFingerprint() {
+    }
+
+    static long of(String ruleId, String filePath, int startLine, int startLineOffset, int endLine,
+                   int endLineOffset) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, ruleId);
+        hash = hash(hash, filePath);
+        hash = hash(hash, startLine);
+        hash = hash(hash, startLineOffset);
+        hash = hash(hash, endLine);
+        hash = hash(hash, endLineOffset);
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Terminate the string so that ("ab", "c") and ("a", "bc") differ
+        return hash(hash, value.length());
+    }
+
+    private static long hash(long hash, int value) {
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
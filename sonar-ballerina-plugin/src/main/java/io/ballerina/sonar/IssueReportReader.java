@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams the issues of an analysis results report one at a time, so that a report is never materialized as a
+ * whole. Read errors are thrown as {@link UncheckedIOException}s as the {@link Iterator} methods cannot throw
+ * checked exceptions.
+ *
+ * @since 0.2.0
+ */
+final class IssueReportReader implements Iterator<JsonObject>, Closeable {
+    private final JsonReader jsonReader;
+
+    private IssueReportReader(JsonReader jsonReader) {
+        this.jsonReader = jsonReader;
+    }
+
+    static IssueReportReader open(Path report) throws IOException {
+        JsonReader jsonReader = new JsonReader(Files.newBufferedReader(report, StandardCharsets.UTF_8));
+        try {
+            jsonReader.beginArray();
+        } catch (IOException | RuntimeException e) {
+            jsonReader.close();
+            throw e;
+        }
+        return new IssueReportReader(jsonReader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return jsonReader.hasNext();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public JsonObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return JsonParser.parseReader(jsonReader).getAsJsonObject();
+    }
+
+    /**
+     * Decodes the next issue straight into a row of a table, without materializing it as a {@link JsonObject}.
+     *
+     * @param table table receiving the issue
+     */
+    void readInto(IssueTable table) {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            table.read(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonReader.close();
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static io.ballerina.sonar.Constants.ISSUE_END_LINE;
+import static io.ballerina.sonar.Constants.ISSUE_END_LINE_OFFSET;
+import static io.ballerina.sonar.Constants.ISSUE_FILE_PATH;
+import static io.ballerina.sonar.Constants.ISSUE_MESSAGE;
+import static io.ballerina.sonar.Constants.ISSUE_RULE_ID;
+import static io.ballerina.sonar.Constants.ISSUE_RULE_KIND;
+import static io.ballerina.sonar.Constants.ISSUE_SOURCE;
+import static io.ballerina.sonar.Constants.ISSUE_START_LINE;
+import static io.ballerina.sonar.Constants.ISSUE_START_LINE_OFFSET;
+
+/**
+ * Columnar store of the issues of a report.
+ * Each issue is a row spread over primitive arrays: its lines and offsets are stored as {@code int}s and its file
+ * path, rule id, message, rule kind and source as ids into per-column string dictionaries, so that an issue costs
+ * 30 bytes plus its share of the distinct strings, instead of the hundreds of bytes of a {@link JsonObject}. The
+ * table is filled by the report decoders, sorted in place and read row by row by the reporting stage.
+ *
+ * @since 0.2.0
+ */
+final class IssueTable {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_BYTE_DICTIONARY_SIZE = 255;
+    private static final int NO_VALUE = -1;
+
+    private final StringDictionary filePaths = new StringDictionary();
+    private final StringDictionary ruleIds = new StringDictionary();
+    private final StringDictionary messages = new StringDictionary();
+    private final StringDictionary ruleKinds = new StringDictionary();
+    private final StringDictionary sources = new StringDictionary();
+
+    private int[] startLines;
+    private int[] startLineOffsets;
+    private int[] endLines;
+    private int[] endLineOffsets;
+    private int[] filePathIds;
+    private int[] ruleIdIds;
+    private int[] messageIds;
+    private byte[] ruleKindIds;
+    private byte[] sourceIds;
+    private int size;
+
+    IssueTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IssueTable(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Creates a table holding the given issues, in order.
+     *
+     * @param issues issues of a report
+     * @return the table
+     */
+    static IssueTable of(Iterable<? extends JsonElement> issues) {
+        IssueTable table = new IssueTable();
+        for (JsonElement issue : issues) {
+            table.add(issue.getAsJsonObject());
+        }
+        return table;
+    }
+
+    /**
+     * Returns the issues in tables of at most {@code batchSize} rows, for streamed reports whose issues are
+     * reported as they are read.
+     *
+     * @param issues    streamed issues
+     * @param batchSize maximum number of rows of a table
+     * @return the tables, in the order of the issues
+     */
+    static Iterator<IssueTable> batches(Iterator<? extends JsonElement> issues, int batchSize) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return issues.hasNext();
+            }
+
+            @Override
+            public IssueTable next() {
+                if (!issues.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                IssueTable table = new IssueTable(batchSize);
+                while (table.size < batchSize && issues.hasNext()) {
+                    table.add(issues.next().getAsJsonObject());
+                }
+                return table;
+            }
+        };
+    }
+
+    int size() {
+        return size;
+    }
+
+    String filePath(int row) {
+        return filePaths.value(filePathIds[row]);
+    }
+
+    String ruleId(int row) {
+        return ruleIds.value(ruleIdIds[row]);
+    }
+
+    String message(int row) {
+        return messages.value(messageIds[row]);
+    }
+
+    String ruleKind(int row) {
+        return ruleKinds.value(byteIdValue(ruleKindIds[row]));
+    }
+
+    String source(int row) {
+        return sources.value(byteIdValue(sourceIds[row]));
+    }
+
+    int startLine(int row) {
+        return startLines[row];
+    }
+
+    int startLineOffset(int row) {
+        return startLineOffsets[row];
+    }
+
+    int endLine(int row) {
+        return endLines[row];
+    }
+
+    int endLineOffset(int row) {
+        return endLineOffsets[row];
+    }
+
+    /**
+     * Returns the distinct file paths of the issues, in the order of their first issue.
+     */
+    List<String> filePaths() {
+        List<String> distinctFilePaths = new ArrayList<>();
+        boolean[] seen = new boolean[filePaths.size()];
+        for (int row = 0; row < size; row++) {
+            if (!seen[filePathIds[row]]) {
+                seen[filePathIds[row]] = true;
+                distinctFilePaths.add(filePaths.value(filePathIds[row]));
+            }
+        }
+        return distinctFilePaths;
+    }
+
+    void add(JsonObject issue) {
+        add(requiredString(issue, ISSUE_FILE_PATH), requiredString(issue, ISSUE_RULE_ID),
+                optionalString(issue, ISSUE_MESSAGE), optionalString(issue, ISSUE_RULE_KIND),
+                requiredString(issue, ISSUE_SOURCE), requiredInt(issue, ISSUE_START_LINE),
+                requiredInt(issue, ISSUE_START_LINE_OFFSET), requiredInt(issue, ISSUE_END_LINE),
+                requiredInt(issue, ISSUE_END_LINE_OFFSET));
+    }
+
+    void add(String filePath, String ruleId, String message, String ruleKind, String source, int startLine,
+             int startLineOffset, int endLine, int endLineOffset) {
+        if (size == startLines.length) {
+            grow();
+        }
+        filePathIds[size] = filePaths.id(filePath);
+        ruleIdIds[size] = ruleIds.id(ruleId);
+        messageIds[size] = messages.id(message);
+        ruleKindIds[size] = byteId(ruleKinds, ruleKind);
+        sourceIds[size] = byteId(sources, source);
+        startLines[size] = startLine;
+        startLineOffsets[size] = startLineOffset;
+        endLines[size] = endLine;
+        endLineOffsets[size] = endLineOffset;
+        size++;
+    }
+
+    /**
+     * Decodes the issue at the current position of a reader into a new row, without materializing it as a
+     * {@link JsonObject}.
+     *
+     * @param jsonReader reader positioned on an issue object
+     * @throws IOException           if the issue cannot be read
+     * @throws IllegalStateException if a required field of the issue is missing
+     */
+    void read(JsonReader jsonReader) throws IOException {
+        String filePath = null;
+        String ruleId = null;
+        String message = null;
+        String ruleKind = null;
+        String source = null;
+        long startLine = Long.MIN_VALUE;
+        long startLineOffset = Long.MIN_VALUE;
+        long endLine = Long.MIN_VALUE;
+        long endLineOffset = Long.MIN_VALUE;
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.skipValue();
+                continue;
+            }
+            switch (name) {
+                case ISSUE_FILE_PATH -> filePath = jsonReader.nextString();
+                case ISSUE_RULE_ID -> ruleId = jsonReader.nextString();
+                case ISSUE_MESSAGE -> message = jsonReader.nextString();
+                case ISSUE_RULE_KIND -> ruleKind = jsonReader.nextString();
+                case ISSUE_SOURCE -> source = jsonReader.nextString();
+                case ISSUE_START_LINE -> startLine = jsonReader.nextInt();
+                case ISSUE_START_LINE_OFFSET -> startLineOffset = jsonReader.nextInt();
+                case ISSUE_END_LINE -> endLine = jsonReader.nextInt();
+                case ISSUE_END_LINE_OFFSET -> endLineOffset = jsonReader.nextInt();
+                default -> jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        add(required(filePath, ISSUE_FILE_PATH), required(ruleId, ISSUE_RULE_ID), message, ruleKind,
+                required(source, ISSUE_SOURCE), required(startLine, ISSUE_START_LINE),
+                required(startLineOffset, ISSUE_START_LINE_OFFSET), required(endLine, ISSUE_END_LINE),
+                required(endLineOffset, ISSUE_END_LINE_OFFSET));
+    }
+
+    /**
+     * Writes a row as an issue object in the report format.
+     *
+     * @param row        row of the issue
+     * @param jsonWriter writer of a report
+     * @throws IOException if the issue cannot be written
+     */
+    void write(int row, JsonWriter jsonWriter) throws IOException {
+        jsonWriter.beginObject()
+                .name(ISSUE_START_LINE).value(startLines[row])
+                .name(ISSUE_START_LINE_OFFSET).value(startLineOffsets[row])
+                .name(ISSUE_END_LINE).value(endLines[row])
+                .name(ISSUE_END_LINE_OFFSET).value(endLineOffsets[row])
+                .name(ISSUE_RULE_ID).value(ruleId(row))
+                .name(ISSUE_MESSAGE).value(message(row))
+                .name(ISSUE_RULE_KIND).value(ruleKind(row))
+                .name(ISSUE_SOURCE).value(source(row))
+                .name(ISSUE_FILE_PATH).value(filePath(row))
+                .endObject();
+    }
+
+    /**
+     * Sorts the rows by file path in place, keeping the order of the rows of a file.
+     * The rows are ordered through a single primitive sort of {@code (file path rank, row)} keys, and then moved
+     * to their position by following the cycles of the permutation, so the only extra memory is a {@code long} per
+     * row.
+     */
+    void sortByFilePath() {
+        int[] filePathRanks = filePaths.ranks();
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            keys[row] = ((long) filePathRanks[filePathIds[row]] << 32) | row;
+        }
+        Arrays.sort(keys);
+        // The row moved to position i is the low half of keys[i], moved keys are marked as negative
+        for (int start = 0; start < size; start++) {
+            if (keys[start] < 0) {
+                continue;
+            }
+            int source = (int) keys[start];
+            if (source == start) {
+                keys[start] = -1;
+                continue;
+            }
+            IssueTable startRow = new IssueTable(1);
+            startRow.copyRow(this, start, 0);
+            int target = start;
+            while (source != start) {
+                copyRow(this, source, target);
+                keys[target] = -1;
+                target = source;
+                source = (int) keys[target];
+            }
+            copyRow(startRow, 0, target);
+            keys[target] = -1;
+        }
+    }
+
+    /**
+     * Copies a row of a table sharing the dictionaries of this one.
+     */
+    private void copyRow(IssueTable table, int sourceRow, int targetRow) {
+        startLines[targetRow] = table.startLines[sourceRow];
+        startLineOffsets[targetRow] = table.startLineOffsets[sourceRow];
+        endLines[targetRow] = table.endLines[sourceRow];
+        endLineOffsets[targetRow] = table.endLineOffsets[sourceRow];
+        filePathIds[targetRow] = table.filePathIds[sourceRow];
+        ruleIdIds[targetRow] = table.ruleIdIds[sourceRow];
+        messageIds[targetRow] = table.messageIds[sourceRow];
+        ruleKindIds[targetRow] = table.ruleKindIds[sourceRow];
+        sourceIds[targetRow] = table.sourceIds[sourceRow];
+    }
+
+    private void allocate(int capacity) {
+        startLines = new int[capacity];
+        startLineOffsets = new int[capacity];
+        endLines = new int[capacity];
+        endLineOffsets = new int[capacity];
+        filePathIds = new int[capacity];
+        ruleIdIds = new int[capacity];
+        messageIds = new int[capacity];
+        ruleKindIds = new byte[capacity];
+        sourceIds = new byte[capacity];
+    }
+
+    private void grow() {
+        int capacity = startLines.length + (startLines.length >> 1) + 1;
+        startLines = Arrays.copyOf(startLines, capacity);
+        startLineOffsets = Arrays.copyOf(startLineOffsets, capacity);
+        endLines = Arrays.copyOf(endLines, capacity);
+        endLineOffsets = Arrays.copyOf(endLineOffsets, capacity);
+        filePathIds = Arrays.copyOf(filePathIds, capacity);
+        ruleIdIds = Arrays.copyOf(ruleIdIds, capacity);
+        messageIds = Arrays.copyOf(messageIds, capacity);
+        ruleKindIds = Arrays.copyOf(ruleKindIds, capacity);
+        sourceIds = Arrays.copyOf(sourceIds, capacity);
+    }
+
+    private static byte byteId(StringDictionary dictionary, String value) {
+        int id = dictionary.id(value);
+        if (id >= MAX_BYTE_DICTIONARY_SIZE) {
+            throw new IllegalStateException("Too many distinct values in an issue report column, value: " + value);
+        }
+        return (byte) id;
+    }
+
+    private static int byteIdValue(byte id) {
+        int value = id & 0xFF;
+        return value == MAX_BYTE_DICTIONARY_SIZE ? NO_VALUE : value;
+    }
+
+    private static String requiredString(JsonObject issue, String field) {
+        JsonElement value = issue.get(field);
+        if (value == null || value.isJsonNull()) {
+            throw new IllegalStateException("Missing " + field + " in issue " + issue);
+        }
+        return value.getAsString();
+    }
+
+    private static String optionalString(JsonObject issue, String field) {
+        JsonElement value = issue.get(field);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    private static int requiredInt(JsonObject issue, String field) {
+        JsonElement value = issue.get(field);
+        if (value == null || value.isJsonNull()) {
+            throw new IllegalStateException("Missing " + field + " in issue " + issue);
+        }
+        return value.getAsInt();
+    }
+
+    private static String required(String value, String field) {
+        if (value == null) {
+            throw new IllegalStateException("Missing " + field + " in an issue");
+        }
+        return value;
+    }
+
+    private static int required(long value, String field) {
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalStateException("Missing " + field + " in an issue");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Dictionary of the distinct strings of a column. The id of {@code null} is {@link #NO_VALUE}, stored as the
+     * last byte id in the byte columns.
+     */
+    private static final class StringDictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int id(String value) {
+            if (value == null) {
+                return NO_VALUE;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        String value(int id) {
+            return id == NO_VALUE ? null : values.get(id);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        /**
+         * Returns the rank of each id in the natural order of the values.
+         */
+        int[] ranks() {
+            Integer[] idsByValue = new Integer[values.size()];
+            for (int id = 0; id < idsByValue.length; id++) {
+                idsByValue[id] = id;
+            }
+            Arrays.sort(idsByValue, (first, second) -> values.get(first).compareTo(values.get(second)));
+            int[] ranks = new int[idsByValue.length];
+            for (int rank = 0; rank < idsByValue.length; rank++) {
+                ranks[idsByValue[rank]] = rank;
+            }
+            return ranks;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.TextRange;
+
+/**
+ * Lengths of the lines of an {@link InputFile}, computed once per file and used to fit the locations of the issues
+ * of the file into it, so that a single out-of-range location does not fail the whole report.
+ *
+ * @since 0.2.0
+ */
+final class LineLengthTable {
+    private final InputFile inputFile;
+    private final int[] lineLengths;
+
+    private LineLengthTable(InputFile inputFile, int[] lineLengths) {
+        this.inputFile = inputFile;
+        this.lineLengths = lineLengths;
+    }
+
+    static LineLengthTable of(InputFile inputFile) {
+        int[] lineLengths = new int[inputFile.lines()];
+        for (int line = 1; line <= lineLengths.length; line++) {
+            lineLengths[line - 1] = inputFile.selectLine(line).end().lineOffset();
+        }
+        return new LineLengthTable(inputFile, lineLengths);
+    }
+
+    /**
+     * Returns the range of a location fitted into the file.
+     * Offsets past the end of their line and an end line past the end of the file are clamped. A location whose
+     * range is empty once clamped covers its whole start line instead. Locations starting outside of the file,
+     * ending before they start, or on an empty line are dropped.
+     *
+     * @param startLine       one-based start line
+     * @param startLineOffset start line offset
+     * @param endLine         one-based end line
+     * @param endLineOffset   end line offset
+     * @return the fitted range, or {@code null} if the location is dropped
+     */
+    TextRange range(int startLine, int startLineOffset, int endLine, int endLineOffset) {
+        if (startLine < 1 || startLine > lineLengths.length || endLine < startLine) {
+            return null;
+        }
+        if (endLine > lineLengths.length) {
+            endLine = lineLengths.length;
+            endLineOffset = lineLengths[endLine - 1];
+        }
+        startLineOffset = clamp(startLineOffset, lineLengths[startLine - 1]);
+        endLineOffset = clamp(endLineOffset, lineLengths[endLine - 1]);
+        if (startLine == endLine && startLineOffset >= endLineOffset) {
+            if (lineLengths[startLine - 1] == 0) {
+                return null;
+            }
+            startLineOffset = 0;
+            endLineOffset = lineLengths[startLine - 1];
+        }
+        return inputFile.newRange(startLine, startLineOffset, endLine, endLineOffset);
+    }
+
+    /**
+     * Returns whether a range differs from the location it was fitted from.
+     */
+    static boolean isClamped(TextRange range, int startLine, int startLineOffset, int endLine, int endLineOffset) {
+        return range.start().line() != startLine || range.start().lineOffset() != startLineOffset
+                || range.end().line() != endLine || range.end().lineOffset() != endLineOffset;
+    }
+
+    private static int clamp(int lineOffset, int lineLength) {
+        return Math.max(0, Math.min(lineOffset, lineLength));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import java.util.Arrays;
+
+/**
+ * Lines of code and comment lines of a Ballerina source, computed in a single pass over its characters.
+ * A line is a line of code when it holds a token other than a comment, including the lines of a multi-line string
+ * template, and a comment line when it holds a {@code //} comment or a {@code #} documentation line. Comment markers
+ * inside string literals and string templates are not comments.
+ *
+ * @since 0.2.0
+ */
+final class LineMetrics {
+    private final int[] codeLines;
+    private final int commentLines;
+
+    private LineMetrics(int[] codeLines, int commentLines) {
+        this.codeLines = codeLines;
+        this.commentLines = commentLines;
+    }
+
+    /**
+     * Scans the contents of a source file.
+     *
+     * @param contents contents of the file
+     * @return the metrics of the file
+     */
+    static LineMetrics of(CharSequence contents) {
+        int[] codeLines = new int[16];
+        int codeLineCount = 0;
+        int commentLines = 0;
+        int line = 1;
+        boolean lineHasCode = false;
+        boolean lineHasComment = false;
+        boolean inString = false;
+        boolean inTemplate = false;
+        int length = contents.length();
+        // The end of the contents ends the last line, unless it is empty
+        int end = length > 0 && !isLineBreak(contents.charAt(length - 1)) ? length + 1 : length;
+        for (int i = 0; i < end; i++) {
+            char c = i < length ? contents.charAt(i) : '\n';
+            if (isLineBreak(c)) {
+                if (lineHasCode) {
+                    if (codeLineCount == codeLines.length) {
+                        codeLines = Arrays.copyOf(codeLines, codeLineCount * 2);
+                    }
+                    codeLines[codeLineCount++] = line;
+                }
+                if (lineHasComment) {
+                    commentLines++;
+                }
+                if (c == '\r' && i + 1 < length && contents.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                line++;
+                // String literals end with their line, templates continue on the next one
+                inString = false;
+                lineHasCode = inTemplate;
+                lineHasComment = false;
+                continue;
+            }
+            if (inString) {
+                if (c == '\\' && i + 1 < length && !isLineBreak(contents.charAt(i + 1))) {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            if (inTemplate) {
+                if (c == '`') {
+                    inTemplate = false;
+                }
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c == '#' || (c == '/' && i + 1 < length && contents.charAt(i + 1) == '/')) {
+                lineHasComment = true;
+                while (i + 1 < length && !isLineBreak(contents.charAt(i + 1))) {
+                    i++;
+                }
+                continue;
+            }
+            lineHasCode = true;
+            if (c == '"') {
+                inString = true;
+            } else if (c == '`') {
+                inTemplate = true;
+            }
+        }
+        return new LineMetrics(Arrays.copyOf(codeLines, codeLineCount), commentLines);
+    }
+
+    /**
+     * Returns the lines of code, in ascending order.
+     */
+    int[] codeLines() {
+        return codeLines;
+    }
+
+    int linesOfCode() {
+        return codeLines.length;
+    }
+
+    int commentLines() {
+        return commentLines;
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+/**
+ * Set of primitive {@code long} values using open addressing with linear probing.
+ * Each value costs 8 to 16 bytes of table space and no per-entry object, which keeps the memory of issue
+ * deduplication small even for reports with millions of issues.
+ *
+ * @since 0.2.0
+ */
+final class LongHashSet {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsEmpty;
+
+    LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds the value to the set.
+     *
+     * @param value value to add
+     * @return {@code true} if the value was not already in the set
+     */
+    boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                return false;
+            }
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+        int index = indexOf(value, table, mask);
+        if (table[index] == value) {
+            return false;
+        }
+        table[index] = value;
+        size++;
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+        return table[indexOf(value, table, mask)] == value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot holding the value, or the empty slot where it would be inserted.
+     */
+    private static int indexOf(long value, long[] table, int mask) {
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY && table[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] newTable = new long[capacity];
+        int newMask = capacity - 1;
+        for (long value : table) {
+            if (value != EMPTY) {
+                newTable[indexOf(value, newTable, newMask)] = value;
+            }
+        }
+        table = newTable;
+        mask = newMask;
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
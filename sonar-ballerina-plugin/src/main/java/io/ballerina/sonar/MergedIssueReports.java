@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import static io.ballerina.sonar.Constants.ISSUE_FILE_PATH;
+
+/**
+ * Merges the analysis results reports of several shards, e.g. of the jobs of a CI matrix, into a single stream of
+ * issues ordered by file path.
+ * The platform plugin writes the issues of a report ordered by file path, so a k-way merge over the heads of the
+ * streamed reports keeps the issues of a file together while holding a single issue per report in memory. Issues of
+ * the same file are taken from the reports in the order the reports are given. Unordered reports written by older
+ * versions are still merged completely, only the issues of a file may then be split in several runs.
+ *
+ * @since 0.2.0
+ */
+final class MergedIssueReports implements Iterator<JsonObject>, Closeable {
+    private static final Comparator<ReportHead> HEAD_ORDER = Comparator
+            .comparing(ReportHead::filePath)
+            .thenComparingInt(ReportHead::reportIndex);
+
+    private final List<IssueReportReader> readers;
+    private final PriorityQueue<ReportHead> heads;
+
+    private MergedIssueReports(List<IssueReportReader> readers) {
+        this.readers = readers;
+        this.heads = new PriorityQueue<>(Math.max(1, readers.size()), HEAD_ORDER);
+        for (int i = 0; i < readers.size(); i++) {
+            advance(readers.get(i), i);
+        }
+    }
+
+    /**
+     * Opens the given reports for merging.
+     *
+     * @param reports analysis results reports
+     * @return the merged issues of the reports, to be closed once read
+     * @throws IOException if a report cannot be opened
+     */
+    static MergedIssueReports open(List<Path> reports) throws IOException {
+        List<IssueReportReader> readers = new ArrayList<>(reports.size());
+        try {
+            for (Path report : reports) {
+                readers.add(IssueReportReader.open(report));
+            }
+            return new MergedIssueReports(readers);
+        } catch (IOException | RuntimeException e) {
+            closeAll(readers);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public JsonObject next() {
+        ReportHead head = heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        advance(readers.get(head.reportIndex()), head.reportIndex());
+        return head.issue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeAll(readers);
+    }
+
+    private void advance(IssueReportReader reader, int reportIndex) {
+        if (reader.hasNext()) {
+            JsonObject issue = reader.next();
+            heads.add(new ReportHead(issue, issue.get(ISSUE_FILE_PATH).getAsString(), reportIndex));
+        }
+    }
+
+    private static void closeAll(List<IssueReportReader> readers) throws IOException {
+        IOException failure = null;
+        for (IssueReportReader reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private record ReportHead(JsonObject issue, String filePath, int reportIndex) {
+    }
+}
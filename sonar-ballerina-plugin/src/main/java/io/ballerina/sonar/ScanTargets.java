@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.ballerina.sonar.Constants.BALLERINA_TOML;
+
+/**
+ * Derives the targets of {@code bal scan} from the files indexed by SonarQube.
+ * A file that belongs to a Ballerina package contributes the package root, i.e. the closest ancestor directory
+ * containing a {@code Ballerina.toml}, while a file outside any package is scanned as a standalone file. Packages
+ * without indexed files, such as excluded generated code, are therefore never scanned.
+ *
+ * @since 0.2.0
+ */
+final class ScanTargets {
+    private ScanTargets() {
+    }
+
+    /**
+     * Returns the package roots and standalone files to scan, in a stable order.
+     *
+     * @param baseDir      base directory of the analysis, the package lookup does not go above it
+     * @param indexedFiles absolute paths of the indexed Ballerina files
+     * @return package root directories and standalone files to scan
+     */
+    static Set<Path> of(Path baseDir, Iterable<String> indexedFiles) {
+        Path normalizedBaseDir = baseDir.toAbsolutePath().normalize();
+        Map<Path, Path> packageRoots = new HashMap<>();
+        Set<Path> targets = new TreeSet<>();
+        for (String indexedFile : indexedFiles) {
+            Path filePath = Path.of(indexedFile).toAbsolutePath().normalize();
+            Path packageRoot = packageRoot(filePath.getParent(), normalizedBaseDir, packageRoots);
+            targets.add(packageRoot != null ? packageRoot : filePath);
+        }
+        return targets;
+    }
+
+    private static Path packageRoot(Path directory, Path baseDir, Map<Path, Path> packageRoots) {
+        if (directory == null || !directory.startsWith(baseDir)) {
+            return null;
+        }
+        if (packageRoots.containsKey(directory)) {
+            return packageRoots.get(directory);
+        }
+        Path packageRoot = Files.isRegularFile(directory.resolve(BALLERINA_TOML))
+                ? directory
+                : packageRoot(directory.getParent(), baseDir, packageRoots);
+        packageRoots.put(directory, packageRoot);
+        return packageRoot;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by the {@link BallerinaSensor}.
+ * The events are only recorded while a JFR recording with them enabled is active, otherwise their overhead is
+ * limited to an allocation and an enabled check.
+ *
+ * @since 0.2.0
+ */
+final class SensorEvents {
+    private static final String CATEGORY = "Ballerina";
+    private static final String SUB_CATEGORY = "Sensor";
+
+    private SensorEvents() {
+    }
+
+    /**
+     * Lifetime of the {@code bal scan} process started by the sensor.
+     */
+    @Name("io.ballerina.sonar.ScanProcess")
+    @Label("Ballerina Scan Process")
+    @Description("Lifetime of the bal scan process started by the Ballerina sensor")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class ScanProcessEvent extends Event {
+        @Label("Directory")
+        String directory;
+
+        @Label("Exit Code")
+        int exitCode;
+
+        @Label("Cancelled")
+        boolean cancelled;
+    }
+
+    /**
+     * Decoding of an analysis results report into issues. Merged and sharded reports are decoded while their
+     * issues are saved, so their event spans the reporting of the issues.
+     */
+    @Name("io.ballerina.sonar.ReportDecode")
+    @Label("Ballerina Report Decode")
+    @Description("Decoding of a Ballerina analysis results report")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class ReportDecodeEvent extends Event {
+        @Label("Report Size")
+        @DataAmount
+        long bytes;
+
+        @Label("Issue Count")
+        int issueCount;
+    }
+
+    /**
+     * Reporting of a batch of issues to SonarQube.
+     */
+    @Name("io.ballerina.sonar.IssueBatch")
+    @Label("Ballerina Issue Batch")
+    @Description("Reporting of a batch of Ballerina issues to SonarQube")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class IssueBatchEvent extends Event {
+        @Label("Issues Read")
+        int issuesRead;
+
+        @Label("Issues Saved")
+        int issuesSaved;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.fs.InputFile;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.sonar.Constants.BUILD_TARGET_DIRECTORY;
+
+/**
+ * Persistent copy of the scanned Ballerina packages used in SonarLint, where the files being edited may not be
+ * saved yet.
+ * Each package is mirrored into its own directory of the workspace, synchronized incrementally with the package on
+ * disk, and the contents of the analyzed {@link InputFile}s are written over their copies. The {@code target}
+ * directory of the copy is never synchronized, so the compilation state of {@code bal scan} is reused between
+ * analyses.
+ *
+ * @since 0.2.0
+ */
+final class ShadowWorkspace {
+    private final Path root;
+
+    ShadowWorkspace(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the copy of a scan target, i.e. a package root directory or a standalone file.
+     */
+    Path shadowTarget(Path scanTarget) {
+        Path targetDirectory = Files.isDirectory(scanTarget) ? scanTarget : scanTarget.getParent();
+        Path shadowDirectory = root.resolve(Integer.toHexString(targetDirectory.toString().hashCode()) + "-"
+                + targetDirectory.getFileName());
+        return Files.isDirectory(scanTarget) ? shadowDirectory : shadowDirectory.resolve(scanTarget.getFileName());
+    }
+
+    /**
+     * Synchronizes the copy of a scan target and writes the contents of the analyzed files into it.
+     *
+     * @param scanTarget        package root directory or standalone file
+     * @param pathAndInputFiles analyzed files by absolute path
+     * @return the analyzed files of the scan target by the absolute path of their copy
+     * @throws IOException if the copy cannot be updated
+     */
+    Map<String, InputFile> prepare(Path scanTarget, Map<String, InputFile> pathAndInputFiles) throws IOException {
+        Path shadowTarget = shadowTarget(scanTarget);
+        Map<String, InputFile> shadowPathAndInputFiles = new HashMap<>();
+        if (Files.isDirectory(scanTarget)) {
+            Map<Path, InputFile> analyzedFiles = new HashMap<>();
+            pathAndInputFiles.forEach((filePath, inputFile) -> {
+                if (Path.of(filePath).startsWith(scanTarget)) {
+                    analyzedFiles.put(Path.of(filePath), inputFile);
+                }
+            });
+            synchronize(scanTarget, shadowTarget, analyzedFiles.keySet());
+            for (Map.Entry<Path, InputFile> entry : analyzedFiles.entrySet()) {
+                Path shadowFile = shadowTarget.resolve(scanTarget.relativize(entry.getKey()).toString());
+                writeContents(entry.getValue(), shadowFile);
+                shadowPathAndInputFiles.put(shadowFile.toString(), entry.getValue());
+            }
+        } else {
+            InputFile inputFile = pathAndInputFiles.get(scanTarget.toString());
+            if (inputFile != null) {
+                writeContents(inputFile, shadowTarget);
+                shadowPathAndInputFiles.put(shadowTarget.toString(), inputFile);
+            }
+        }
+        return shadowPathAndInputFiles;
+    }
+
+    /**
+     * Copies the files of the package that changed since the last synchronization and removes the copies of the
+     * files that no longer exist, leaving the build output of the copy untouched. The analyzed files are skipped as
+     * their contents are written separately, which keeps their copies unchanged while they are not edited.
+     */
+    private static void synchronize(Path packageRoot, Path shadowRoot, Set<Path> analyzedFiles) throws IOException {
+        Files.createDirectories(shadowRoot);
+        for (Path sourceFile : packageFiles(packageRoot)) {
+            if (analyzedFiles.contains(sourceFile)) {
+                continue;
+            }
+            Path shadowFile = shadowRoot.resolve(packageRoot.relativize(sourceFile).toString());
+            if (!isUpToDate(sourceFile, shadowFile)) {
+                Files.createDirectories(shadowFile.getParent());
+                Files.copy(sourceFile, shadowFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        }
+        for (Path shadowFile : packageFiles(shadowRoot)) {
+            if (!Files.exists(packageRoot.resolve(shadowRoot.relativize(shadowFile).toString()))) {
+                Files.delete(shadowFile);
+            }
+        }
+    }
+
+    /**
+     * Lists the files of a package, skipping the build output and hidden directories such as {@code .git}.
+     */
+    private static List<Path> packageFiles(Path packageRoot) throws IOException {
+        Path buildDirectory = packageRoot.resolve(BUILD_TARGET_DIRECTORY);
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(packageRoot, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                if (directory.equals(buildDirectory)
+                        || (!directory.equals(packageRoot) && directory.getFileName().toString().startsWith("."))) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile()) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
+    }
+
+    private static boolean isUpToDate(Path sourceFile, Path shadowFile) throws IOException {
+        return Files.isRegularFile(shadowFile)
+                && Files.size(sourceFile) == Files.size(shadowFile)
+                && Files.getLastModifiedTime(sourceFile).equals(Files.getLastModifiedTime(shadowFile));
+    }
+
+    private static void writeContents(InputFile inputFile, Path shadowFile) throws IOException {
+        String contents = inputFile.contents();
+        if (Files.isRegularFile(shadowFile) && Files.readString(shadowFile, inputFile.charset()).equals(contents)) {
+            return;
+        }
+        Files.createDirectories(shadowFile.getParent());
+        Files.writeString(shadowFile, contents, inputFile.charset());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import io.ballerina.sonar.SensorEvents.ReportDecodeEvent;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static io.ballerina.sonar.Constants.REPORT_MANIFEST_FILE_NAME;
+import static io.ballerina.sonar.Constants.REPORT_MANIFEST_ISSUE_COUNT;
+import static io.ballerina.sonar.Constants.REPORT_MANIFEST_SHARDS;
+import static io.ballerina.sonar.Constants.REPORT_MANIFEST_SHARD_PATH;
+import static io.ballerina.sonar.Constants.REPORT_MANIFEST_VERSION;
+import static io.ballerina.sonar.Constants.REPORT_MANIFEST_VERSION_PROPERTY;
+
+/**
+ * Analysis results report written by the platform plugin as a directory of shards listed in a
+ * {@code manifest.json}.
+ * Shards are decoded ahead of the reader on an executor, a bounded number at a time, each into its own
+ * {@link IssueTable}, and the tables are handed out in manifest order on the calling thread, so that decoding scales
+ * with the available cores while issues are still saved from a single thread.
+ *
+ * @since 0.2.0
+ */
+final class ShardedIssueReport {
+    private final List<Path> shards;
+    private final int issueCount;
+
+    private ShardedIssueReport(List<Path> shards, int issueCount) {
+        this.shards = shards;
+        this.issueCount = issueCount;
+    }
+
+    static boolean isShardedReport(Path path) {
+        return Files.isRegularFile(path.resolve(REPORT_MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Reads the manifest of a sharded report.
+     *
+     * @param directory directory of the report
+     * @return the sharded report
+     * @throws IOException           if the manifest cannot be read
+     * @throws IllegalStateException if the manifest is not supported or is invalid
+     */
+    static ShardedIssueReport open(Path directory) throws IOException {
+        Path manifestPath = directory.resolve(REPORT_MANIFEST_FILE_NAME);
+        JsonObject manifest;
+        try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            manifest = JsonParser.parseReader(reader).getAsJsonObject();
+        }
+        JsonElement version = manifest.get(REPORT_MANIFEST_VERSION_PROPERTY);
+        if (version == null || version.getAsInt() != REPORT_MANIFEST_VERSION) {
+            throw new IllegalStateException("Unsupported analysis results manifest version " + version + " at "
+                    + manifestPath);
+        }
+        List<Path> shards = new ArrayList<>();
+        for (JsonElement shard : manifest.getAsJsonArray(REPORT_MANIFEST_SHARDS)) {
+            shards.add(directory.resolve(shard.getAsJsonObject().get(REPORT_MANIFEST_SHARD_PATH).getAsString()));
+        }
+        return new ShardedIssueReport(shards, manifest.get(REPORT_MANIFEST_ISSUE_COUNT).getAsInt());
+    }
+
+    List<Path> shards() {
+        return shards;
+    }
+
+    int issueCount() {
+        return issueCount;
+    }
+
+    /**
+     * Returns the issues of the shards in manifest order, a table per shard.
+     * Read and decode errors of a shard are thrown by the iterator, as {@link UncheckedIOException}s for read
+     * errors.
+     *
+     * @param executor       executor decoding the shards
+     * @param maxShardsAhead maximum number of shards decoded ahead of the one being read
+     * @return the issues of the report
+     */
+    Iterator<IssueTable> issues(ExecutorService executor, int maxShardsAhead) {
+        return new ShardIterator(executor, Math.max(1, maxShardsAhead));
+    }
+
+    private static IssueTable decode(Path shard) throws IOException {
+        ReportDecodeEvent reportDecodeEvent = new ReportDecodeEvent();
+        reportDecodeEvent.begin();
+        IssueTable issues = new IssueTable();
+        try (JsonReader jsonReader = new JsonReader(Files.newBufferedReader(shard, StandardCharsets.UTF_8))) {
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                issues.read(jsonReader);
+            }
+            jsonReader.endArray();
+        }
+        reportDecodeEvent.bytes = Files.size(shard);
+        reportDecodeEvent.issueCount = issues.size();
+        reportDecodeEvent.commit();
+        return issues;
+    }
+
+    private final class ShardIterator implements Iterator<IssueTable> {
+        private final ExecutorService executor;
+        private final int maxShardsAhead;
+        private final Deque<Future<IssueTable>> decodedShards = new ArrayDeque<>();
+        private int nextShard;
+
+        private ShardIterator(ExecutorService executor, int maxShardsAhead) {
+            this.executor = executor;
+            this.maxShardsAhead = maxShardsAhead;
+            decodeAhead();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !decodedShards.isEmpty();
+        }
+
+        @Override
+        public IssueTable next() {
+            Future<IssueTable> decodedShard = decodedShards.poll();
+            if (decodedShard == null) {
+                throw new NoSuchElementException();
+            }
+            IssueTable shard = await(decodedShard);
+            decodeAhead();
+            return shard;
+        }
+
+        private void decodeAhead() {
+            while (decodedShards.size() < maxShardsAhead && nextShard < shards.size()) {
+                Path shard = shards.get(nextShard++);
+                decodedShards.add(executor.submit(() -> decode(shard)));
+            }
+        }
+
+        private IssueTable await(Future<IssueTable> decodedShard) {
+            try {
+                return decodedShard.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                decodedShards.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("Interrupted while decoding the analysis results shards", e);
+            } catch (ExecutionException e) {
+                decodedShards.forEach(pending -> pending.cancel(true));
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException ioException) {
+                    throw new UncheckedIOException(ioException);
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.batch.sensor.highlighting.NewHighlighting;
+import org.sonar.api.batch.sensor.highlighting.TypeOfText;
+import org.sonar.api.batch.sensor.symbol.NewSymbol;
+import org.sonar.api.batch.sensor.symbol.NewSymbolTable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.sonar.Constants.ISSUE_FILE_PATH;
+import static io.ballerina.sonar.Constants.SONAR_SCANNER_OFFSET;
+import static io.ballerina.sonar.Constants.SYNTAX_DATA_HIGHLIGHTING;
+import static io.ballerina.sonar.Constants.SYNTAX_DATA_SYMBOLS;
+
+/**
+ * Saves the syntax highlighting and the symbols written by the platform plugin next to an analysis results report.
+ * The syntax data is streamed one file at a time. Each file holds flat arrays of zero-based
+ * {@code startLine, startLineOffset, endLine, endLineOffset} quadruples, per highlighting type, keyed by the CSS
+ * class of its {@link TypeOfText}, and per symbol, the declaration of a symbol coming first.
+ *
+ * @since 0.2.0
+ */
+final class SyntaxDataReport {
+    private static final int RANGE_SIZE = 4;
+
+    private SyntaxDataReport() {
+    }
+
+    /**
+     * Saves the syntax data of the indexed files not saved yet.
+     *
+     * @param context           sensor context
+     * @param syntaxData        path of the syntax data file
+     * @param pathAndInputFiles indexed files by absolute path
+     * @param savedFiles        files whose syntax data was already saved, updated with the files saved by this call
+     * @return the number of files whose highlighting and whose symbols were saved or rejected
+     * @throws IOException if the syntax data cannot be read
+     */
+    static Counts save(SensorContext context, Path syntaxData, Map<String, InputFile> pathAndInputFiles,
+                       Set<InputFile> savedFiles) throws IOException {
+        int highlightedFiles = 0;
+        int rejectedHighlightings = 0;
+        int symbolFiles = 0;
+        int rejectedSymbolTables = 0;
+        try (JsonReader jsonReader = new JsonReader(Files.newBufferedReader(syntaxData, StandardCharsets.UTF_8))) {
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                JsonObject fileData = JsonParser.parseReader(jsonReader).getAsJsonObject();
+                JsonElement filePath = fileData.get(ISSUE_FILE_PATH);
+                InputFile inputFile = filePath == null ? null : pathAndInputFiles.get(filePath.getAsString());
+                if (inputFile == null || !savedFiles.add(inputFile)) {
+                    continue;
+                }
+                // The highlighting and the symbols are saved independently, either can be rejected on its own
+                try {
+                    if (saveHighlighting(context, inputFile, fileData.getAsJsonObject(SYNTAX_DATA_HIGHLIGHTING))) {
+                        highlightedFiles++;
+                    }
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    rejectedHighlightings++;
+                }
+                try {
+                    if (saveSymbols(context, inputFile, fileData.getAsJsonArray(SYNTAX_DATA_SYMBOLS))) {
+                        symbolFiles++;
+                    }
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    rejectedSymbolTables++;
+                }
+            }
+            jsonReader.endArray();
+        }
+        return new Counts(highlightedFiles, rejectedHighlightings, symbolFiles, rejectedSymbolTables);
+    }
+
+    /**
+     * Represents the number of files whose syntax data was saved or rejected by a call to {@link #save}.
+     *
+     * @param highlightedFiles      files whose highlighting was saved
+     * @param rejectedHighlightings files whose highlighting was rejected as its ranges do not fit the file
+     * @param symbolFiles           files whose symbols were saved
+     * @param rejectedSymbolTables  files whose symbols were rejected as their ranges do not fit the file
+     */
+    record Counts(int highlightedFiles, int rejectedHighlightings, int symbolFiles, int rejectedSymbolTables) {
+    }
+
+    private static boolean saveHighlighting(SensorContext context, InputFile inputFile, JsonObject highlighting) {
+        if (highlighting == null) {
+            return false;
+        }
+        NewHighlighting newHighlighting = context.newHighlighting().onFile(inputFile);
+        for (Map.Entry<String, JsonElement> entry : highlighting.entrySet()) {
+            TypeOfText typeOfText = TypeOfText.forCssClass(entry.getKey());
+            JsonArray ranges = entry.getValue().getAsJsonArray();
+            for (int i = 0; i + RANGE_SIZE <= ranges.size(); i += RANGE_SIZE) {
+                newHighlighting.highlight(ranges.get(i).getAsInt() + SONAR_SCANNER_OFFSET, ranges.get(i + 1).getAsInt(),
+                        ranges.get(i + 2).getAsInt() + SONAR_SCANNER_OFFSET, ranges.get(i + 3).getAsInt(),
+                        typeOfText);
+            }
+        }
+        newHighlighting.save();
+        return true;
+    }
+
+    private static boolean saveSymbols(SensorContext context, InputFile inputFile, JsonArray symbols) {
+        if (symbols == null) {
+            return false;
+        }
+        NewSymbolTable newSymbolTable = context.newSymbolTable().onFile(inputFile);
+        for (JsonElement symbol : symbols) {
+            JsonArray ranges = symbol.getAsJsonArray();
+            if (ranges.size() < RANGE_SIZE) {
+                continue;
+            }
+            NewSymbol newSymbol = newSymbolTable.newSymbol(ranges.get(0).getAsInt() + SONAR_SCANNER_OFFSET,
+                    ranges.get(1).getAsInt(), ranges.get(2).getAsInt() + SONAR_SCANNER_OFFSET,
+                    ranges.get(3).getAsInt());
+            for (int i = RANGE_SIZE; i + RANGE_SIZE <= ranges.size(); i += RANGE_SIZE) {
+                newSymbol.newReference(ranges.get(i).getAsInt() + SONAR_SCANNER_OFFSET, ranges.get(i + 1).getAsInt(),
+                        ranges.get(i + 2).getAsInt() + SONAR_SCANNER_OFFSET, ranges.get(i + 3).getAsInt());
+            }
+        }
+        newSymbolTable.save();
+        return true;
+    }
+}
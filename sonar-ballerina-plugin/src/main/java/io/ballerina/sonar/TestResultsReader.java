@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the test results of the {@code test_results.json} report written by {@code bal test}.
+ * Tests are read one at a time from {@code moduleStatus[].tests[]} and handed to a consumer, so the memory used
+ * does not grow with the number of tests. The tests of a module listed before the name of the module are buffered
+ * until the name is read, as JSON does not order the keys of an object.
+ *
+ * @since 0.2.0
+ */
+final class TestResultsReader {
+    static final long UNKNOWN_DURATION = -1;
+
+    private static final String MODULE_STATUS = "moduleStatus";
+    private static final String TESTS = "tests";
+    private static final String NAME = "name";
+    private static final String STATUS = "status";
+    private static final String DURATION = "duration";
+
+    private TestResultsReader() {
+    }
+
+    /**
+     * Receives the tests of a report.
+     */
+    @FunctionalInterface
+    interface TestConsumer {
+        /**
+         * Accepts a test.
+         *
+         * @param moduleName     name of the module of the test, {@code null} if the module has no name
+         * @param testName       name of the test function, with the data set suffix of data driven tests
+         * @param status         status of the test, e.g. {@code PASSED}, {@code FAILURE} or {@code SKIPPED}
+         * @param durationMillis duration of the test, or {@link #UNKNOWN_DURATION}
+         */
+        void accept(String moduleName, String testName, String status, long durationMillis);
+    }
+
+    static void read(Path report, TestConsumer consumer) throws IOException {
+        try (Reader reader = Files.newBufferedReader(report, StandardCharsets.UTF_8);
+             JsonReader jsonReader = new JsonReader(reader)) {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                if (jsonReader.nextName().equals(MODULE_STATUS) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                    jsonReader.beginArray();
+                    while (jsonReader.hasNext()) {
+                        readModule(jsonReader, consumer);
+                    }
+                    jsonReader.endArray();
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+        }
+    }
+
+    private static void readModule(JsonReader jsonReader, TestConsumer consumer) throws IOException {
+        String moduleName = null;
+        List<TestResult> pendingTests = new ArrayList<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            if (name.equals(NAME) && jsonReader.peek() == JsonToken.STRING) {
+                moduleName = jsonReader.nextString();
+            } else if (name.equals(TESTS) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    TestResult test = readTest(jsonReader);
+                    if (test == null) {
+                        continue;
+                    }
+                    if (moduleName != null) {
+                        test.accept(moduleName, consumer);
+                    } else {
+                        pendingTests.add(test);
+                    }
+                }
+                jsonReader.endArray();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        for (TestResult test : pendingTests) {
+            test.accept(moduleName, consumer);
+        }
+    }
+
+    private static TestResult readTest(JsonReader jsonReader) throws IOException {
+        String testName = null;
+        String status = null;
+        long durationMillis = UNKNOWN_DURATION;
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.skipValue();
+                continue;
+            }
+            switch (name) {
+                case NAME -> testName = jsonReader.nextString();
+                case STATUS -> status = jsonReader.nextString();
+                case DURATION -> durationMillis = jsonReader.nextLong();
+                default -> jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        return testName != null && status != null ? new TestResult(testName, status, durationMillis) : null;
+    }
+
+    private record TestResult(String testName, String status, long durationMillis) {
+        void accept(String moduleName, TestConsumer consumer) {
+            consumer.accept(moduleName, testName, status, durationMillis);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.ballerina.sonar.SonarBallerinaException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Retrieves the scan tool from Ballerina Central, or from an HTTP proxy exposing the same API.
+ *
+ * @since 0.2.0
+ */
+class CentralScanToolSource implements ScanToolSource {
+    private final HttpClient httpClient;
+    private final URI metadataUri;
+    private final Duration timeout;
+
+    private static final String ACCEPT_HEADER_NAME = "Accept";
+    private static final String ACCEPT_HEADER_VALUE = "application/json";
+    private static final String CONTENT_DISPOSITION_HEADER_NAME = "Content-Disposition";
+    private static final String CONTENT_DISPOSITION_HEADER_VALUE = "attachment; filename=scan-tool.bala";
+    private static final String ACCEPT_ENCODING_HEADER_NAME = "Accept-Encoding";
+    private static final String ACCEPT_ENCODING_HEADER_VALUE = "identity";
+
+    CentralScanToolSource(URI metadataUri, Duration timeout) {
+        this.metadataUri = metadataUri;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public ScanToolMetadata fetchMetadata() throws SonarBallerinaException {
+        HttpRequest pullToolReq = HttpRequest.newBuilder()
+                .GET()
+                .uri(metadataUri)
+                .timeout(timeout)
+                .header(ACCEPT_HEADER_NAME, ACCEPT_HEADER_VALUE)
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(pullToolReq, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                String errorMsg = "Failed to fetch the scan tool metadata with status code: " + response.statusCode();
+                throw new SonarBallerinaException(errorMsg);
+            }
+            Gson gson = new GsonBuilder().create();
+            ScanToolMetadata metadata = gson.fromJson(response.body(), ScanToolMetadata.class);
+            if (metadata == null || metadata.getBalaURL() == null) {
+                throw new SonarBallerinaException("Incomplete scan tool metadata received from " + metadataUri);
+            }
+            return metadata;
+        } catch (IOException | JsonParseException e) {
+            String errorMsg = "Failed to fetch the scan tool metadata";
+            throw new SonarBallerinaException(errorMsg, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SonarBallerinaException("Interrupted while fetching the scan tool metadata", e);
+        }
+    }
+
+    @Override
+    public InputStream openBala(ScanToolMetadata metadata) throws SonarBallerinaException {
+        HttpRequest pullBalaRequest = HttpRequest.newBuilder()
+                .GET()
+                .uri(URI.create(metadata.getBalaURL()))
+                .timeout(timeout)
+                .header(ACCEPT_ENCODING_HEADER_NAME, ACCEPT_ENCODING_HEADER_VALUE)
+                .setHeader(CONTENT_DISPOSITION_HEADER_NAME, CONTENT_DISPOSITION_HEADER_VALUE)
+                .build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(
+                    pullBalaRequest,
+                    HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new SonarBallerinaException("Failed to download the scan tool with status code: "
+                        + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new SonarBallerinaException("Failed to download the scan tool", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SonarBallerinaException("Interrupted while downloading the scan tool", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.ballerina.sonar.SonarBallerinaException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Retrieves the scan tool from a local directory containing {@code scan-tool-metadata.json} and
+ * {@code scan-tool.bala}. This is the same layout written by {@link MirroredScanToolSource}.
+ *
+ * @since 0.2.0
+ */
+class DirectoryScanToolSource implements ScanToolSource {
+    private final Path directory;
+
+    DirectoryScanToolSource(Path directory) {
+        this.directory = directory;
+    }
+
+    Path metadataPath() {
+        return directory.resolve(METADATA_FILE_NAME);
+    }
+
+    Path balaPath() {
+        return directory.resolve(BALA_FILE_NAME);
+    }
+
+    boolean isAvailable() {
+        return Files.isRegularFile(metadataPath()) && Files.isRegularFile(balaPath());
+    }
+
+    @Override
+    public ScanToolMetadata fetchMetadata() throws SonarBallerinaException {
+        Path metadataPath = metadataPath();
+        try {
+            String json = Files.readString(metadataPath, StandardCharsets.UTF_8);
+            Gson gson = new GsonBuilder().create();
+            ScanToolMetadata metadata = gson.fromJson(json, ScanToolMetadata.class);
+            if (metadata == null) {
+                throw new SonarBallerinaException("Empty scan tool metadata at " + metadataPath.toAbsolutePath());
+            }
+            return metadata;
+        } catch (IOException | JsonParseException e) {
+            throw new SonarBallerinaException("Failed to read the scan tool metadata at "
+                    + metadataPath.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public InputStream openBala(ScanToolMetadata metadata) throws SonarBallerinaException {
+        Path balaPath = balaPath();
+        try {
+            return Files.newInputStream(balaPath);
+        } catch (IOException e) {
+            throw new SonarBallerinaException("Failed to read the scan tool at " + balaPath.toAbsolutePath(), e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.ballerina.sonar.SonarBallerinaException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Read-through mirror of another {@link ScanToolSource}.
+ * The metadata and bala are fetched from the upstream source and stored in the mirror directory, which can be
+ * shared between server nodes. The mirror is keyed by the bala URL of the upstream metadata, which names the
+ * resolved scan tool version: later loads only fetch the metadata from the upstream and serve the bala from the
+ * mirror until a new version is published. The mirror is served as is when the upstream cannot be reached.
+ *
+ * @since 0.2.0
+ */
+class MirroredScanToolSource implements ScanToolSource {
+    private final ScanToolSource upstream;
+    private final DirectoryScanToolSource mirror;
+    private final Path mirrorDirectory;
+    Logger logger = Logger.getLogger(MirroredScanToolSource.class.getName());
+
+    MirroredScanToolSource(ScanToolSource upstream, Path mirrorDirectory) {
+        this.upstream = upstream;
+        this.mirrorDirectory = mirrorDirectory;
+        this.mirror = new DirectoryScanToolSource(mirrorDirectory);
+    }
+
+    @Override
+    public synchronized ScanToolMetadata fetchMetadata() throws SonarBallerinaException {
+        ScanToolMetadata metadata;
+        try {
+            metadata = upstream.fetchMetadata();
+        } catch (SonarBallerinaException e) {
+            if (!mirror.isAvailable()) {
+                throw e;
+            }
+            logger.warning("Failed to fetch the scan tool metadata from the upstream source. The scan tool in the "
+                    + "mirror at " + mirrorDirectory.toAbsolutePath() + " will be used. Error: " + e.getMessage());
+            return mirror.fetchMetadata();
+        }
+        if (isMirrored(metadata)) {
+            return metadata;
+        }
+        try {
+            storeInMirror(metadata);
+        } catch (IOException e) {
+            logger.warning("Failed to store the scan tool in the mirror at " + mirrorDirectory.toAbsolutePath() +
+                    ". The scan tool will be fetched from the upstream source. Error: " + e.getMessage());
+        }
+        return metadata;
+    }
+
+    @Override
+    public synchronized InputStream openBala(ScanToolMetadata metadata) throws SonarBallerinaException {
+        if (isMirrored(metadata)) {
+            return mirror.openBala(metadata);
+        }
+        return upstream.openBala(metadata);
+    }
+
+    /**
+     * Checks whether the mirror holds the bala of the given metadata. A mirror whose metadata cannot be read is
+     * treated as missing, so that it is replaced with the upstream scan tool.
+     */
+    private boolean isMirrored(ScanToolMetadata metadata) {
+        if (!mirror.isAvailable()) {
+            return false;
+        }
+        try {
+            return Objects.equals(mirror.fetchMetadata().getBalaURL(), metadata.getBalaURL());
+        } catch (SonarBallerinaException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stores the bala and the metadata in the mirror directory.
+     * Files are first written to a temporary file and then moved into place, so that concurrent readers on other
+     * nodes never observe a partially written mirror. The metadata is moved last as it marks the mirror complete.
+     */
+    private void storeInMirror(ScanToolMetadata metadata) throws IOException, SonarBallerinaException {
+        Files.createDirectories(mirrorDirectory);
+        Path balaTempFile = Files.createTempFile(mirrorDirectory, BALA_FILE_NAME, ".tmp");
+        try (InputStream bala = upstream.openBala(metadata)) {
+            Files.copy(bala, balaTempFile, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(balaTempFile, mirror.balaPath());
+        } finally {
+            Files.deleteIfExists(balaTempFile);
+        }
+
+        Path metadataTempFile = Files.createTempFile(mirrorDirectory, METADATA_FILE_NAME, ".tmp");
+        try {
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            Files.writeString(metadataTempFile, gson.toJson(metadata), StandardCharsets.UTF_8);
+            moveIntoPlace(metadataTempFile, mirror.metadataPath());
+        } finally {
+            Files.deleteIfExists(metadataTempFile);
+        }
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
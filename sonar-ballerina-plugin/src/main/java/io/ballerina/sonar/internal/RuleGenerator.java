@@ -20,20 +20,25 @@ package io.ballerina.sonar.internal;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import io.ballerina.sonar.SonarBallerinaException;
+import io.ballerina.sonar.internal.RuleLoadingEvents.BalaDownloadEvent;
+import io.ballerina.sonar.internal.RuleLoadingEvents.HtmlRenderEvent;
+import io.ballerina.sonar.internal.RuleLoadingEvents.MetadataFetchEvent;
+import io.ballerina.sonar.internal.RuleLoadingEvents.ReadmeParseEvent;
+import io.ballerina.sonar.internal.RuleLoadingEvents.RuleCacheEvent;
 import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.sonar.api.config.Configuration;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -55,24 +60,23 @@ import java.util.zip.ZipInputStream;
  * @since 0.2.0
  */
 public class RuleGenerator {
-    private final HttpClient httpClient = HttpClient.newHttpClient();
     private final List<RuleMetadata> rules = new ArrayList<>();
+    private final Path ruleCachePath;
     Logger logger = Logger.getLogger(RuleGenerator.class.getName());
 
-    private static final RuleGenerator INSTANCE = new RuleGenerator();
-
-    private static final String SCAN_TOOL_CENTRAL_URI = "https://api.central.ballerina.io/2.0/registry/tools/scan/";
-    private static final String ACCEPT_HEADER_NAME = "Accept";
-    private static final String ACCEPT_HEADER_VALUE = "application/json";
-    private static final String CONTENT_DISPOSITION_HEADER_NAME = "Content-Disposition";
-    private static final String CONTENT_DISPOSITION_HEADER_VALUE = "attachment; filename=scan-tool.bala";
-    private static final String ACCEPT_ENCODING_HEADER_NAME = "Accept-Encoding";
-    private static final String ACCEPT_ENCODING_HEADER_VALUE = "identity";
     private static final String RULE_INFO_FILE_PATH = "resources/rule-info.json";
     private static final Path RULE_CACHE_PATH = Paths.get(System.getProperty("user.home"), ".sonar-ballerina",
             "rule-cache.json");
 
+    // Declared after the cache path, which the constructor reads during class initialization
+    private static final RuleGenerator INSTANCE = new RuleGenerator();
+
     private RuleGenerator() {
+        this(RULE_CACHE_PATH);
+    }
+
+    RuleGenerator(Path ruleCachePath) {
+        this.ruleCachePath = ruleCachePath;
     }
 
     /**
@@ -93,9 +97,26 @@ public class RuleGenerator {
      * @throws SonarBallerinaException if an error occurs while fetching or processing the rules
      */
     public synchronized List<RuleMetadata> loadRules() throws SonarBallerinaException {
+        return loadRules(ScanToolSource.fromUri(URI.create(ScanToolSource.SCAN_TOOL_CENTRAL_URI)));
+    }
+
+    /**
+     * Loads the rules for the Sonar Ballerina plugin from the scan tool source selected by the given configuration.
+     * The source can be Ballerina Central, an internal proxy, a {@code file://} directory or a read-through mirror
+     * of any of these.
+     *
+     * @param configuration the SonarQube configuration
+     * @return List of RuleMetadata objects
+     * @throws SonarBallerinaException if an error occurs while fetching or processing the rules
+     */
+    public synchronized List<RuleMetadata> loadRules(Configuration configuration) throws SonarBallerinaException {
+        return loadRules(ScanToolSource.fromConfiguration(configuration));
+    }
+
+    synchronized List<RuleMetadata> loadRules(ScanToolSource scanToolSource) throws SonarBallerinaException {
         if (rules.isEmpty()) {
             try {
-                generateRules();
+                generateRules(scanToolSource);
                 saveRulesIntoCache();
             } catch (SonarBallerinaException e) {
                 boolean rulesLoadedFromCache = loadRulesFromCache();
@@ -107,88 +128,80 @@ public class RuleGenerator {
         return Collections.unmodifiableList(rules);
     }
 
-    private void generateRules() throws SonarBallerinaException {
-        ScanToolMetadata scanToolMetadata = getScanToolMetadata();
-        Map<String, RuleMetadata.Builder> ruleBuilders = extractRuleInfo(scanToolMetadata.getBalaURL());
-        extractRuleDocs(ruleBuilders, scanToolMetadata.getReadme());
-        rules.addAll(ruleBuilders.values().stream().map(RuleMetadata.Builder::build).toList());
-    }
+    private void generateRules(ScanToolSource scanToolSource) throws SonarBallerinaException {
+        MetadataFetchEvent metadataFetchEvent = new MetadataFetchEvent();
+        metadataFetchEvent.begin();
+        ScanToolMetadata scanToolMetadata = scanToolSource.fetchMetadata();
+        metadataFetchEvent.source = scanToolSource.getClass().getSimpleName();
+        metadataFetchEvent.commit();
 
-    private ScanToolMetadata getScanToolMetadata() throws SonarBallerinaException {
-        HttpRequest pullToolReq = HttpRequest.newBuilder()
-                .GET()
-                .uri(URI.create(SCAN_TOOL_CENTRAL_URI))
-                .header(ACCEPT_HEADER_NAME, ACCEPT_HEADER_VALUE)
-                .build();
-        try {
-            HttpResponse<String> response = httpClient.send(pullToolReq, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() != 200) {
-                String errorMsg = "Failed to fetch the scan tool metadata with status code: " + response.statusCode();
-                throw new SonarBallerinaException(errorMsg);
-            }
-            Gson gson = new GsonBuilder().create();
-            return gson.fromJson(response.body(), ScanToolMetadata.class);
-        } catch (IOException | InterruptedException e) {
-            String errorMsg = "Failed to fetch the scan tool metadata";
-            throw new SonarBallerinaException(errorMsg, e);
+        Map<String, RuleMetadata.Builder> ruleBuilders;
+        BalaDownloadEvent balaDownloadEvent = new BalaDownloadEvent();
+        balaDownloadEvent.begin();
+        try (CountingInputStream bala = new CountingInputStream(scanToolSource.openBala(scanToolMetadata))) {
+            ruleBuilders = extractRuleInfo(bala);
+            balaDownloadEvent.bytes = bala.count();
+            balaDownloadEvent.ruleCount = ruleBuilders.size();
+            balaDownloadEvent.commit();
+        } catch (IOException | JsonParseException e) {
+            throw new SonarBallerinaException("Failed to read the scan tool", e);
         }
+        extractRuleDocs(ruleBuilders, Objects.requireNonNullElse(scanToolMetadata.getReadme(), ""));
+        rules.addAll(ruleBuilders.values().stream().map(RuleMetadata.Builder::build).toList());
     }
 
-    private Map<String, RuleMetadata.Builder> extractRuleInfo(String balaUrl) throws SonarBallerinaException {
+    private Map<String, RuleMetadata.Builder> extractRuleInfo(InputStream bala) throws IOException,
+            SonarBallerinaException {
         Map<String, RuleMetadata.Builder> ruleBuilders = new HashMap<>();
-        HttpRequest pullBalaRequest = HttpRequest.newBuilder()
-                .GET()
-                .uri(URI.create(balaUrl))
-                .header(ACCEPT_ENCODING_HEADER_NAME, ACCEPT_ENCODING_HEADER_VALUE)
-                .setHeader(CONTENT_DISPOSITION_HEADER_NAME, CONTENT_DISPOSITION_HEADER_VALUE)
-                .build();
-        try {
-            HttpResponse<InputStream> response = httpClient.send(
-                    pullBalaRequest,
-                    HttpResponse.BodyHandlers.ofInputStream());
-            if (response.statusCode() != 200) {
-                throw new SonarBallerinaException("Failed to download the scan tool with status code: "
-                        + response.statusCode());
-            }
-            try (ZipInputStream zipIn = new ZipInputStream(response.body())) {
-                ZipEntry entry;
-                while ((entry = zipIn.getNextEntry()) != null) {
-                    if (entry.isDirectory() || !entry.getName().equals(RULE_INFO_FILE_PATH)) {
-                        continue;
-                    }
-                    ByteArrayOutputStream out = new ByteArrayOutputStream();
-                    byte[] buffer = new byte[1024];
-                    int len;
-                    while ((len = zipIn.read(buffer)) > 0) {
-                        out.write(buffer, 0, len);
-                    }
-                    String jsonString = out.toString(StandardCharsets.UTF_8);
-                    Gson gson = new Gson();
-                    Type ruleInfoListType = new ScanToolRuleInfoListTypeToken().getType();
-                    List<ScanToolRuleInfo> ruleInfo = gson.fromJson(jsonString, ruleInfoListType);
-                    for (ScanToolRuleInfo rule : ruleInfo) {
-                        String ruleId = rule.getSqKey();
-                        RuleMetadata.Builder ruleBuilder = RuleMetadata.builder()
-                                .setId(ruleId)
-                                .setName(rule.getTitle())
-                                .setType(rule.getType().toUpperCase(Locale.ROOT))
-                                .setSeverity(rule.getDefaultSeverity().toUpperCase(Locale.ROOT))
-                                .setTags(rule.getTags());
-                        ruleBuilders.put(ruleId, ruleBuilder);
-                    }
-                    zipIn.closeEntry();
-                    return ruleBuilders;
+        try (ZipInputStream zipIn = new ZipInputStream(bala)) {
+            ZipEntry entry;
+            while ((entry = zipIn.getNextEntry()) != null) {
+                if (entry.isDirectory() || !entry.getName().equals(RULE_INFO_FILE_PATH)) {
+                    continue;
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int len;
+                while ((len = zipIn.read(buffer)) > 0) {
+                    out.write(buffer, 0, len);
                 }
-                throw new SonarBallerinaException("Failed to find rule-info.json in the scan tool archive");
+                String jsonString = out.toString(StandardCharsets.UTF_8);
+                Gson gson = new Gson();
+                Type ruleInfoListType = new ScanToolRuleInfoListTypeToken().getType();
+                List<ScanToolRuleInfo> ruleInfo = gson.fromJson(jsonString, ruleInfoListType);
+                if (ruleInfo == null) {
+                    throw new SonarBallerinaException("Empty rule-info.json in the scan tool archive");
+                }
+                for (ScanToolRuleInfo rule : ruleInfo) {
+                    String ruleId = rule.getSqKey();
+                    RuleMetadata.Builder ruleBuilder = RuleMetadata.builder()
+                            .setId(ruleId)
+                            .setName(rule.getTitle())
+                            .setType(rule.getType().toUpperCase(Locale.ROOT))
+                            .setSeverity(rule.getDefaultSeverity().toUpperCase(Locale.ROOT))
+                            .setTags(rule.getTags());
+                    ruleBuilders.put(ruleId, ruleBuilder);
+                }
+                zipIn.closeEntry();
+                return ruleBuilders;
             }
-        } catch (IOException | InterruptedException e) {
-            throw new SonarBallerinaException("Failed to download the scan tool", e);
+            throw new SonarBallerinaException("Failed to find rule-info.json in the scan tool archive");
         }
     }
 
     private void extractRuleDocs(Map<String, RuleMetadata.Builder> builders, String readme) {
+        ReadmeParseEvent readmeParseEvent = new ReadmeParseEvent();
+        readmeParseEvent.begin();
         Map<String, String> ruleDocsInMd = scrapeRulesFromReadme(readme);
+        readmeParseEvent.readmeLength = readme.length();
+        readmeParseEvent.ruleCount = ruleDocsInMd.size();
+        readmeParseEvent.commit();
+
+        HtmlRenderEvent htmlRenderEvent = new HtmlRenderEvent();
+        htmlRenderEvent.begin();
         Map<String, String> ruleDocsInHtml = convertRuleDocsToHtml(ruleDocsInMd);
+        htmlRenderEvent.ruleCount = ruleDocsInHtml.size();
+        htmlRenderEvent.commit();
         for (Map.Entry<String, RuleMetadata.Builder> entry : builders.entrySet()) {
             String id = entry.getKey();
             RuleMetadata.Builder builder = entry.getValue();
@@ -198,11 +211,15 @@ public class RuleGenerator {
     }
 
     private void saveRulesIntoCache() {
+        RuleCacheEvent cacheEvent = new RuleCacheEvent();
+        cacheEvent.begin();
+        cacheEvent.operation = "write";
+        cacheEvent.ruleCount = rules.size();
         try {
             Gson gson = new GsonBuilder().setPrettyPrinting().create();
             String json = gson.toJson(rules);
-            Path cachePath = Objects.requireNonNull(RULE_CACHE_PATH.getParent(),
-                    "RULE_CACHE_PATH must have a parent directory");
+            Path cachePath = Objects.requireNonNull(ruleCachePath.getParent(),
+                    "The rule cache path must have a parent directory");
             if (!cachePath.toFile().exists()) {
                 if (!cachePath.toFile().mkdirs()) {
                    logger.warning("Failed to create sonar-ballerina cache directory at " + cachePath.toAbsolutePath() +
@@ -210,36 +227,52 @@ public class RuleGenerator {
                    return;
                 }
             }
-            Files.writeString(RULE_CACHE_PATH, json, StandardCharsets.UTF_8);
+            Files.writeString(ruleCachePath, json, StandardCharsets.UTF_8);
+            cacheEvent.bytes = Files.size(ruleCachePath);
+            cacheEvent.success = true;
         } catch (IOException ignore) {
-            logger.warning("Failed to save rules into cache at " + RULE_CACHE_PATH.toAbsolutePath() +
+            logger.warning("Failed to save rules into cache at " + ruleCachePath.toAbsolutePath() +
                     ". The rules will not be cached for future use.");
+        } finally {
+            cacheEvent.commit();
         }
     }
 
     private boolean loadRulesFromCache() {
         boolean rulesLoadedFromCache = false;
         rules.clear();
-        if (!Files.exists(RULE_CACHE_PATH)) {
-            logger.severe("Rule cache file does not exist at " + RULE_CACHE_PATH.toAbsolutePath() +
+        if (!Files.exists(ruleCachePath)) {
+            logger.severe("Rule cache file does not exist at " + ruleCachePath.toAbsolutePath() +
                     ". Unable to load rules from cache.");
             return rulesLoadedFromCache;
         }
+        RuleCacheEvent cacheEvent = new RuleCacheEvent();
+        cacheEvent.begin();
+        cacheEvent.operation = "read";
         try {
-            String json = Files.readString(RULE_CACHE_PATH, StandardCharsets.UTF_8);
+            String json = Files.readString(ruleCachePath, StandardCharsets.UTF_8);
+            cacheEvent.bytes = json.length();
             Gson gson = new GsonBuilder().create();
             Type ruleListType = new RuleMetadataListTypeToken().getType();
             List<RuleMetadata> cachedRules = gson.fromJson(json, ruleListType);
+            if (cachedRules == null) {
+                logger.severe("Rule cache file at " + ruleCachePath.toAbsolutePath() + " is empty.");
+                return rulesLoadedFromCache;
+            }
             rules.addAll(cachedRules);
             rulesLoadedFromCache = true;
-        } catch (IOException e) {
-            logger.severe("Failed to read rule cache file at " + RULE_CACHE_PATH.toAbsolutePath() + ". Error: "
+            cacheEvent.ruleCount = cachedRules.size();
+            cacheEvent.success = true;
+        } catch (IOException | JsonParseException e) {
+            logger.severe("Failed to read rule cache file at " + ruleCachePath.toAbsolutePath() + ". Error: "
                     + e.getMessage());
+        } finally {
+            cacheEvent.commit();
         }
         return rulesLoadedFromCache;
     }
 
-    private Map<String, String> scrapeRulesFromReadme(String readme) {
+    static Map<String, String> scrapeRulesFromReadme(String readme) {
         Parser markdownParser = Parser.builder().build();
         Node document = markdownParser.parse(readme);
         RuleVisitor ruleVisitor = new RuleVisitor();
@@ -247,7 +280,7 @@ public class RuleGenerator {
         return ruleVisitor.getRuleDocsInMd();
     }
 
-    private Map<String, String> convertRuleDocsToHtml(Map<String, String> ruleDocsInMd) {
+    static Map<String, String> convertRuleDocsToHtml(Map<String, String> ruleDocsInMd) {
         Map<String, String> ruleDocsInHtml = new HashMap<>();
         for (Map.Entry<String, String> entry : ruleDocsInMd.entrySet()) {
             String id = entry.getKey();
@@ -264,6 +297,39 @@ public class RuleGenerator {
         return renderer.render(document);
     }
 
+    /**
+     * Counts the bytes read from the scan tool bala for the {@link BalaDownloadEvent}.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+
     private static class ScanToolRuleInfoListTypeToken extends TypeToken<List<ScanToolRuleInfo>> { }
 
     private static class RuleMetadataListTypeToken extends TypeToken<List<RuleMetadata>> { }
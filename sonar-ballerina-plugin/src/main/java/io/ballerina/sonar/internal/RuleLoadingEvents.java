@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by the {@link RuleGenerator} while loading the Ballerina rules.
+ *
+ * @since 0.2.0
+ */
+final class RuleLoadingEvents {
+    private static final String CATEGORY = "Ballerina";
+    private static final String SUB_CATEGORY = "Rule Loading";
+
+    private RuleLoadingEvents() {
+    }
+
+    /**
+     * Retrieval of the scan tool metadata.
+     */
+    @Name("io.ballerina.sonar.MetadataFetch")
+    @Label("Scan Tool Metadata Fetch")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class MetadataFetchEvent extends Event {
+        @Label("Source")
+        String source;
+    }
+
+    /**
+     * Download of the scan tool bala and extraction of its rule information.
+     */
+    @Name("io.ballerina.sonar.BalaDownload")
+    @Label("Scan Tool Bala Download")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class BalaDownloadEvent extends Event {
+        @Label("Bytes Read")
+        @DataAmount
+        long bytes;
+
+        @Label("Rule Count")
+        int ruleCount;
+    }
+
+    /**
+     * Extraction of the rule documentation from the scan tool README.
+     */
+    @Name("io.ballerina.sonar.ReadmeParse")
+    @Label("Scan Tool README Parse")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class ReadmeParseEvent extends Event {
+        @Label("README Length")
+        int readmeLength;
+
+        @Label("Rule Count")
+        int ruleCount;
+    }
+
+    /**
+     * Conversion of the rule documentation from Markdown to HTML.
+     */
+    @Name("io.ballerina.sonar.HtmlRender")
+    @Label("Rule Documentation HTML Render")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class HtmlRenderEvent extends Event {
+        @Label("Rule Count")
+        int ruleCount;
+    }
+
+    /**
+     * Read or write of the local rule cache.
+     */
+    @Name("io.ballerina.sonar.RuleCache")
+    @Label("Rule Cache Access")
+    @Description("Read or write of the local rule cache")
+    @Category({CATEGORY, SUB_CATEGORY})
+    @StackTrace(false)
+    static class RuleCacheEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Size")
+        @DataAmount
+        long bytes;
+
+        @Label("Rule Count")
+        int ruleCount;
+
+        @Label("Success")
+        boolean success;
+    }
+}
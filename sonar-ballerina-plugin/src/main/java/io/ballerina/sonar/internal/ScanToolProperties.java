@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import org.sonar.api.PropertyType;
+import org.sonar.api.config.PropertyDefinition;
+
+import java.util.List;
+
+import static io.ballerina.sonar.internal.ScanToolSource.DEFAULT_TIMEOUT;
+import static io.ballerina.sonar.internal.ScanToolSource.SCAN_TOOL_CENTRAL_URI;
+import static io.ballerina.sonar.internal.ScanToolSource.SCAN_TOOL_MIRROR_PATH_KEY;
+import static io.ballerina.sonar.internal.ScanToolSource.SCAN_TOOL_TIMEOUT_KEY;
+import static io.ballerina.sonar.internal.ScanToolSource.SCAN_TOOL_URL_KEY;
+
+/**
+ * Declares the properties selecting where the scan tool, and so the Ballerina rules, are retrieved from.
+ * They are read by the server when it loads the rules, so they are not set per project.
+ *
+ * @since 0.2.0
+ */
+public final class ScanToolProperties {
+    private static final String CATEGORY = "Ballerina";
+    private static final String SUB_CATEGORY = "Scan tool";
+
+    private ScanToolProperties() {
+    }
+
+    /**
+     * Returns the definitions of the scan tool properties.
+     *
+     * @return the property definitions
+     */
+    public static List<PropertyDefinition> definitions() {
+        return List.of(
+                PropertyDefinition.builder(SCAN_TOOL_URL_KEY)
+                        .name("Scan tool URL")
+                        .description("Location of the scan tool the Ballerina rules are loaded from: the Ballerina "
+                                + "Central tools API, an HTTP proxy exposing the same API, or a file:// directory "
+                                + "holding scan-tool-metadata.json and scan-tool.bala.")
+                        .defaultValue(SCAN_TOOL_CENTRAL_URI)
+                        .category(CATEGORY)
+                        .subCategory(SUB_CATEGORY)
+                        .build(),
+                PropertyDefinition.builder(SCAN_TOOL_MIRROR_PATH_KEY)
+                        .name("Scan tool mirror path")
+                        .description("Directory in which the scan tool is stored once retrieved, and served from "
+                                + "until a new version is published or when the scan tool location cannot be reached. "
+                                + "It can be shared between server nodes.")
+                        .category(CATEGORY)
+                        .subCategory(SUB_CATEGORY)
+                        .build(),
+                PropertyDefinition.builder(SCAN_TOOL_TIMEOUT_KEY)
+                        .name("Scan tool timeout")
+                        .description("Time in seconds to connect to and get a response from an HTTP scan tool "
+                                + "location.")
+                        .type(PropertyType.INTEGER)
+                        .defaultValue(String.valueOf(DEFAULT_TIMEOUT.toSeconds()))
+                        .category(CATEGORY)
+                        .subCategory(SUB_CATEGORY)
+                        .build()
+        );
+    }
+}
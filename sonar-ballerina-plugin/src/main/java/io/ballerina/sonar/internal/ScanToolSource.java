@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import io.ballerina.sonar.SonarBallerinaException;
+import org.sonar.api.config.Configuration;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Represents a location from which the scan tool metadata and bala can be retrieved.
+ *
+ * @since 0.2.0
+ */
+interface ScanToolSource {
+    String SCAN_TOOL_URL_KEY = "sonar.ballerina.scanTool.url";
+    String SCAN_TOOL_MIRROR_PATH_KEY = "sonar.ballerina.scanTool.mirrorPath";
+    String SCAN_TOOL_TIMEOUT_KEY = "sonar.ballerina.scanTool.timeoutSeconds";
+    Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+    String SCAN_TOOL_CENTRAL_URI = "https://api.central.ballerina.io/2.0/registry/tools/scan/";
+    String METADATA_FILE_NAME = "scan-tool-metadata.json";
+    String BALA_FILE_NAME = "scan-tool.bala";
+
+    /**
+     * Retrieves the scan tool metadata, which contains the README and the location of the bala.
+     *
+     * @return the scan tool metadata
+     * @throws SonarBallerinaException if the metadata cannot be retrieved
+     */
+    ScanToolMetadata fetchMetadata() throws SonarBallerinaException;
+
+    /**
+     * Opens the scan tool bala described by the given metadata.
+     * The caller is responsible for closing the returned stream.
+     *
+     * @param metadata the scan tool metadata returned by {@link #fetchMetadata()}
+     * @return an input stream of the bala archive
+     * @throws SonarBallerinaException if the bala cannot be retrieved
+     */
+    InputStream openBala(ScanToolMetadata metadata) throws SonarBallerinaException;
+
+    /**
+     * Creates the scan tool source for the given configuration.
+     * The {@code sonar.ballerina.scanTool.url} property selects Ballerina Central, an internal proxy or a
+     * {@code file://} directory, and {@code sonar.ballerina.scanTool.mirrorPath} adds a read-through local mirror.
+     * {@code sonar.ballerina.scanTool.timeoutSeconds} limits the time to connect to and get a response from an HTTP
+     * source.
+     *
+     * @param configuration the SonarQube configuration
+     * @return the scan tool source
+     */
+    static ScanToolSource fromConfiguration(Configuration configuration) {
+        String url = configuration.get(SCAN_TOOL_URL_KEY).orElse(SCAN_TOOL_CENTRAL_URI);
+        Optional<String> mirrorPath = configuration.get(SCAN_TOOL_MIRROR_PATH_KEY);
+        Duration timeout = configuration.getLong(SCAN_TOOL_TIMEOUT_KEY).map(Duration::ofSeconds)
+                .orElse(DEFAULT_TIMEOUT);
+        ScanToolSource source = fromUri(URI.create(url), timeout);
+        if (mirrorPath.isPresent()) {
+            return new MirroredScanToolSource(source, Path.of(mirrorPath.get()));
+        }
+        return source;
+    }
+
+    static ScanToolSource fromUri(URI uri) {
+        return fromUri(uri, DEFAULT_TIMEOUT);
+    }
+
+    static ScanToolSource fromUri(URI uri, Duration timeout) {
+        String scheme = uri.getScheme();
+        if (scheme != null && scheme.toLowerCase(Locale.ROOT).equals("file")) {
+            return new DirectoryScanToolSource(Path.of(uri));
+        }
+        return new CentralScanToolSource(uri, timeout);
+    }
+}
@@ -19,13 +19,19 @@ package io.ballerina.sonar;
 
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
 import org.sonar.api.config.internal.MapSettings;
+import org.testng.annotations.AfterMethod;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * {@code AbstractSensorTest} is the abstract class for sensor tests.
@@ -34,6 +40,7 @@ import java.nio.file.Paths;
  */
 public abstract class AbstractSensorTest {
     protected final Path testResources = Paths.get("src", "test", "resources", "test-resources");
+    private final List<Path> tempDirectories = new ArrayList<>();
 
     protected InputFile createInputFileFromPath(Path projectDir, String relativePath) {
         Path balFilePath = projectDir.resolve(relativePath);
@@ -55,6 +62,33 @@ public abstract class AbstractSensorTest {
                 .build();
     }
 
+    protected SensorContextTester createContext(Path projectDir) throws IOException {
+        SensorContextTester context = SensorContextTester.create(projectDir);
+        context.fileSystem().setWorkDir(createTempDirectory("ballerina-sensor-work"));
+        return context;
+    }
+
+    /**
+     * Creates a temporary directory deleted with its contents after the test method.
+     */
+    protected Path createTempDirectory(String prefix) throws IOException {
+        Path directory = Files.createTempDirectory(prefix);
+        tempDirectories.add(directory);
+        return directory;
+    }
+
+    @AfterMethod(alwaysRun = true)
+    protected void deleteTempDirectories() throws IOException {
+        for (Path directory : tempDirectories) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        tempDirectories.clear();
+    }
+
     protected BallerinaLanguage language() {
         return new BallerinaLanguage(new MapSettings().asConfig());
     }
@@ -64,5 +98,6 @@ public abstract class AbstractSensorTest {
         if (Files.exists(resultsReport)) {
             Files.delete(resultsReport);
         }
+        Files.deleteIfExists(projectDir.resolve("ballerina-syntax-data.json"));
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.rule.ActiveRules;
+import org.sonar.api.batch.rule.internal.ActiveRulesBuilder;
+import org.sonar.api.batch.rule.internal.NewActiveRule;
+import org.sonar.api.config.internal.MapSettings;
+import org.sonar.api.rule.RuleKey;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+/**
+ * {@code ActiveRulesFilterTest} contains the tests for {@link ActiveRulesFilter}.
+ *
+ * @since 0.2.0
+ */
+public class ActiveRulesFilterTest {
+    @Test(description = "Test that the active rules of the Ballerina repository are passed to the scan")
+    void testIncludeRulesOption() {
+        ActiveRules activeRules = new ActiveRulesBuilder()
+                .addRule(activeRule("ballerina", "ballerina-2"))
+                .addRule(activeRule("ballerina", "ballerinax-example_module_static_code_analyzer-1"))
+                .addRule(activeRule("ballerina", "ballerina-1"))
+                .addRule(activeRule("java", "S100"))
+                .build();
+        Optional<String> option = ActiveRulesFilter.includeRulesOption(activeRules, activeOnlySettings().asConfig());
+        Assert.assertEquals(option.orElseThrow(),
+                "--include-rules=ballerina:1,ballerina:2,ballerinax/example_module_static_code_analyzer:1");
+    }
+
+    @Test(description = "Test that all rules run when the filter is disabled or no Ballerina rule is active")
+    void testIncludeRulesOptionDisabled() {
+        ActiveRules activeRules = new ActiveRulesBuilder()
+                .addRule(activeRule("ballerina", "ballerina-1"))
+                .build();
+        MapSettings settings = new MapSettings();
+        settings.setProperty("sonar.ballerina.rules.activeOnly", false);
+        Assert.assertTrue(ActiveRulesFilter.includeRulesOption(activeRules, settings.asConfig()).isEmpty());
+
+        ActiveRules otherActiveRules = new ActiveRulesBuilder()
+                .addRule(activeRule("java", "S100"))
+                .build();
+        Assert.assertTrue(ActiveRulesFilter.includeRulesOption(otherActiveRules, activeOnlySettings().asConfig())
+                .isEmpty());
+    }
+
+    @Test(description = "Test that the rules of the external analyzers, which are never in the quality profile, " +
+            "run with the default configuration")
+    void testIncludeRulesOptionByDefault() {
+        // The issues of exampleOrg/example_module_static_code_analyzer are reported as ad hoc rules
+        ActiveRules activeRules = new ActiveRulesBuilder()
+                .addRule(activeRule("ballerina", "ballerina-1"))
+                .build();
+        Assert.assertTrue(ActiveRulesFilter.includeRulesOption(activeRules, new MapSettings().asConfig()).isEmpty());
+    }
+
+    private static MapSettings activeOnlySettings() {
+        MapSettings settings = new MapSettings();
+        settings.setProperty("sonar.ballerina.rules.activeOnly", true);
+        return settings;
+    }
+
+    private static NewActiveRule activeRule(String repository, String rule) {
+        return new NewActiveRule.Builder().setRuleKey(RuleKey.of(repository, rule)).build();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code AnalysisStatisticsTest} contains the tests for the {@link AnalysisStatistics}.
+ *
+ * @since 0.2.0
+ */
+public class AnalysisStatisticsTest {
+    @Test(description = "Test that every unresolved path is counted while only a few are kept as samples")
+    void testUnresolvedPaths() throws IOException {
+        AnalysisStatistics statistics = new AnalysisStatistics();
+        for (int i = 0; i < 1000; i++) {
+            statistics.addUnresolvedPath("/outside/file" + i + ".bal");
+        }
+        statistics.addNanos(AnalysisStatistics.Phase.REPORT_PARSE, 5_000_000L);
+
+        Path statisticsFile = Files.createTempFile("ballerina-analysis-statistics", ".json");
+        try {
+            statistics.writeTo(statisticsFile);
+            JsonObject written = JsonParser.parseString(Files.readString(statisticsFile)).getAsJsonObject();
+            JsonObject unresolvedPaths = written.getAsJsonObject("unresolvedPaths");
+            Assert.assertEquals(unresolvedPaths.get("count").getAsInt(), 1000);
+            Assert.assertEquals(unresolvedPaths.getAsJsonArray("samples").size(), 20);
+            Assert.assertEquals(unresolvedPaths.getAsJsonArray("samples").get(0).getAsString(),
+                    "/outside/file0.bal");
+            Assert.assertEquals(written.getAsJsonObject("phasesMillis").get("reportParse").getAsLong(), 5);
+        } finally {
+            Files.deleteIfExists(statisticsFile);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code BallerinaCoverageSensorTest} is the test class for the {@link BallerinaCoverageSensor}.
+ *
+ * @since 0.2.0
+ */
+public class BallerinaCoverageSensorTest extends AbstractSensorTest {
+    @Test(description = "Test importing the coverage of the default module and of a submodule")
+    void testBallerinaCoverageSensor() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-coverage");
+        SensorContextTester context = createContext(projectDir);
+        InputFile mainFile = createInputFileFromPath(projectDir, "main.bal");
+        InputFile utilsFile = createInputFileFromPath(projectDir, "modules/utils/utils.bal");
+        context.fileSystem().add(mainFile);
+        context.fileSystem().add(utilsFile);
+
+        new BallerinaCoverageSensor(language()).execute(context);
+
+        Assert.assertEquals(context.lineHits(mainFile.key(), 17), Integer.valueOf(1));
+        Assert.assertEquals(context.lineHits(mainFile.key(), 21), Integer.valueOf(0));
+        Assert.assertEquals(context.lineHits(mainFile.key(), 22), Integer.valueOf(1));
+        Assert.assertNull(context.lineHits(mainFile.key(), 20));
+        Assert.assertEquals(context.lineHits(utilsFile.key(), 18), Integer.valueOf(1));
+        Assert.assertEquals(context.lineHits(utilsFile.key(), 22), Integer.valueOf(0));
+    }
+
+    @Test(description = "Test that a coverage report with a non-integer line is skipped without failing the analysis")
+    void testBallerinaCoverageSensorWithMalformedReport() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-coverage");
+        SensorContextTester context = createContext(projectDir);
+        InputFile mainFile = createInputFileFromPath(projectDir, "main.bal");
+        context.fileSystem().add(mainFile);
+        Path report = Files.createTempFile("malformed-coverage", ".json");
+        Files.writeString(report, "{\"moduleCoverage\": [{\"name\": \"coverage\", \"sourceFiles\": "
+                + "[{\"name\": \"main.bal\", \"coveredLines\": [17, \"seventeen\"]}]}]}", StandardCharsets.UTF_8);
+        context.settings().setProperty("sonar.ballerina.coverage.reportPaths", report.toString());
+
+        new BallerinaCoverageSensor(language()).execute(context);
+        Files.delete(report);
+
+        Assert.assertNull(context.lineHits(mainFile.key(), 17));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.sonar.api.measures.CoreMetrics;
+import org.sonar.api.measures.FileLinesContext;
+import org.sonar.api.measures.FileLinesContextFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code BallerinaMetricsSensorTest} is the test class for the {@link BallerinaMetricsSensor}.
+ *
+ * @since 0.2.0
+ */
+public class BallerinaMetricsSensorTest extends AbstractSensorTest {
+    @Test(description = "Test the lines of code and comment lines of a file with documentation and templates")
+    void testBallerinaMetricsSensor() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-metrics");
+        SensorContextTester context = createContext(projectDir);
+        InputFile mainFile = createInputFileFromPath(projectDir, "main.bal");
+        context.fileSystem().add(mainFile);
+        RecordingFileLinesContextFactory fileLinesContextFactory = new RecordingFileLinesContextFactory();
+
+        new BallerinaMetricsSensor(language(), fileLinesContextFactory).execute(context);
+
+        Assert.assertEquals(context.measure(mainFile.key(), CoreMetrics.NCLOC_KEY).value(), 8);
+        Assert.assertEquals(context.measure(mainFile.key(), CoreMetrics.COMMENT_LINES_KEY).value(), 7);
+        Assert.assertEquals(fileLinesContextFactory.codeLines.get(mainFile),
+                List.of(4, 10, 11, 12, 13, 14, 15, 16));
+    }
+
+    @Test(description = "Test the copy-paste detection tokens with normalized literals and identifiers")
+    void testBallerinaMetricsSensorCpdTokens() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-metrics");
+        SensorContextTester context = createContext(projectDir);
+        InputFile mainFile = createInputFileFromPath(projectDir, "main.bal");
+        context.fileSystem().add(mainFile);
+
+        new BallerinaMetricsSensor(language(), new RecordingFileLinesContextFactory()).execute(context);
+
+        List<String> lines = context.cpdTokens(mainFile.key()).stream()
+                .map(line -> line.getStartLine() + ": " + line.getValue())
+                .toList();
+        // Comments are skipped and the multi-line template is a single literal token
+        Assert.assertEquals(lines, List.of(
+                "4: importIDENTIFIER/IDENTIFIER;",
+                "10: publicfunctionIDENTIFIER(stringIDENTIFIER)returnserror?{",
+                "11: stringIDENTIFIER=LITERAL;",
+                "12: stringIDENTIFIER=stringLITERAL",
+                "14: ;",
+                "15: IDENTIFIER:IDENTIFIER(IDENTIFIER,LITERAL,IDENTIFIER);",
+                "16: }"));
+    }
+
+    /**
+     * Records the lines of code saved for each file.
+     */
+    private static final class RecordingFileLinesContextFactory implements FileLinesContextFactory {
+        private final Map<InputFile, List<Integer>> codeLines = new HashMap<>();
+
+        @Override
+        public FileLinesContext createFor(InputFile inputFile) {
+            List<Integer> lines = new ArrayList<>();
+            return new FileLinesContext() {
+                @Override
+                public void setIntValue(String metricKey, int line, int value) {
+                    if (CoreMetrics.NCLOC_DATA_KEY.equals(metricKey) && value == 1) {
+                        lines.add(line);
+                    }
+                }
+
+                @Override
+                public void setStringValue(String metricKey, int line, String value) {
+                }
+
+                @Override
+                public void save() {
+                    codeLines.put(inputFile, lines);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.Plugin;
+import org.sonar.api.SonarEdition;
+import org.sonar.api.SonarQubeSide;
+import org.sonar.api.config.PropertyDefinition;
+import org.sonar.api.internal.SonarRuntimeImpl;
+import org.sonar.api.utils.Version;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code BallerinaPluginTest} contains the tests for the {@link BallerinaPlugin}.
+ *
+ * @since 0.2.0
+ */
+public class BallerinaPluginTest {
+
+    @Test(description = "Test that the plugin declares the sonar.ballerina properties with their defaults")
+    void testPropertyDefinitions() {
+        Plugin.Context context = new Plugin.Context(SonarRuntimeImpl.forSonarQube(Version.create(9, 9),
+                SonarQubeSide.SCANNER, SonarEdition.COMMUNITY));
+        new BallerinaPlugin().define(context);
+
+        List<?> extensions = context.getExtensions();
+        Map<String, PropertyDefinition> definitions = extensions.stream()
+                .filter(PropertyDefinition.class::isInstance)
+                .map(PropertyDefinition.class::cast)
+                .collect(Collectors.toMap(PropertyDefinition::key, definition -> definition));
+        Assert.assertEquals(definitions.keySet(), Set.of(
+                "sonar.ballerina.file.suffixes",
+                "sonar.ballerina.rules.activeOnly",
+                "sonar.ballerina.issues.maxPerRule",
+                "sonar.ballerina.issues.maxPerFile",
+                "sonar.ballerina.issues.maxTotal",
+                "sonar.ballerina.coverage.reportPaths",
+                "sonar.ballerina.testResults.reportPaths",
+                "sonar.ballerina.scanTool.url",
+                "sonar.ballerina.scanTool.mirrorPath",
+                "sonar.ballerina.scanTool.timeoutSeconds"));
+        Assert.assertEquals(definitions.get("sonar.ballerina.file.suffixes").defaultValue(), "bal");
+        Assert.assertEquals(definitions.get("sonar.ballerina.rules.activeOnly").defaultValue(), "false");
+        Assert.assertEquals(definitions.get("sonar.ballerina.scanTool.timeoutSeconds").defaultValue(), "60");
+        Assert.assertTrue(definitions.get("sonar.ballerina.scanTool.url").qualifiers().isEmpty());
+        Assert.assertEquals(definitions.get("sonar.ballerina.issues.maxTotal").qualifiers(), List.of("TRK"));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.stream.JsonWriter;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.sonar.api.config.internal.MapSettings;
+import org.sonar.api.measures.CoreMetrics;
+import org.sonar.api.measures.FileLinesContext;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.ballerina.sonar.Constants.ISSUES_FILE_PATH;
+
+/**
+ * {@code BallerinaSensorScaleTest} runs the {@link BallerinaSensor} and the {@link BallerinaMetricsSensor} on
+ * generated Ballerina projects and reports that are orders of magnitude larger than the fixture projects, and
+ * verifies that the analysis completes within the configured time and memory budgets.
+ * <p>
+ * These tests are run by the {@code scaleTest} Gradle task, which is part of {@code check}, with a heap larger than
+ * the heap budget. The budgets can be overridden with the {@code scale.*} system properties, which the task sets
+ * from the {@code scale*} project properties.
+ *
+ * @since 0.2.0
+ */
+public class BallerinaSensorScaleTest extends AbstractSensorTest {
+    private static final int FILE_COUNT = Integer.getInteger("scale.fileCount", 2_000);
+    private static final int ISSUE_COUNT = Integer.getInteger("scale.issueCount", 200_000);
+    private static final int LINES_PER_FILE = 100;
+    private static final int LONG_MESSAGE_INTERVAL = 100;
+    private static final int LONG_MESSAGE_LENGTH = 4_000;
+    private static final long TIME_BUDGET_MILLIS = Long.getLong("scale.timeBudgetMillis", 60_000L);
+    private static final long HEAP_BUDGET_BYTES = Long.getLong("scale.heapBudgetMegabytes", 512L) * 1024 * 1024;
+    private static final String SOURCE_LINE = "    int result = checkpanic getResult(); // generated for scale tests";
+    private static final String[] RULE_IDS = {"ballerina:1", "ballerina:2", "ballerina:3", "ballerina:4"};
+
+    private Path projectDir;
+    private List<InputFile> inputFiles;
+
+    @BeforeClass
+    void generateProject() throws IOException {
+        projectDir = Files.createTempDirectory("ballerina-scale-project");
+        Files.writeString(projectDir.resolve("Ballerina.toml"), "[package]\norg = \"scale\"\nname = \"scale\"\n",
+                StandardCharsets.UTF_8);
+        String content = (SOURCE_LINE + "\n").repeat(LINES_PER_FILE);
+        inputFiles = new ArrayList<>(FILE_COUNT);
+        for (int i = 0; i < FILE_COUNT; i++) {
+            inputFiles.add(TestInputFileBuilder.create("moduleKey", "modules/m" + i + "/main.bal")
+                    .setModuleBaseDir(projectDir)
+                    .setType(InputFile.Type.MAIN)
+                    .setLanguage(language().getKey())
+                    .setCharset(StandardCharsets.UTF_8)
+                    .setContents(content)
+                    .build());
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    void deleteProject() throws IOException {
+        try (Stream<Path> paths = Files.walk(projectDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test the BallerinaSensor with a large generated analysis results report")
+    void testBallerinaSensorWithLargeReport() throws IOException {
+        Path reportPath = writeReport(projectDir.resolve(ISSUES_FILE_PATH), ISSUE_COUNT);
+        SensorContextTester context = createContext(projectDir);
+        MapSettings settings = new MapSettings().setProperty("analyzedResultsPath", reportPath.toString());
+        context.setSettings(settings);
+        inputFiles.forEach(inputFile -> context.fileSystem().add(inputFile));
+
+        resetPeakHeapUsage();
+        long start = System.nanoTime();
+        sensor().execute(context);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long peakHeapBytes = peakHeapUsage();
+
+        Assert.assertEquals(context.allIssues().size(), ISSUE_COUNT);
+        Assert.assertTrue(elapsedMillis <= TIME_BUDGET_MILLIS, "Reporting " + ISSUE_COUNT + " issues took "
+                + elapsedMillis + " ms, exceeding the budget of " + TIME_BUDGET_MILLIS + " ms");
+        Assert.assertTrue(peakHeapBytes <= HEAP_BUDGET_BYTES, "Reporting " + ISSUE_COUNT + " issues used "
+                + peakHeapBytes + " bytes of heap, exceeding the budget of " + HEAP_BUDGET_BYTES + " bytes");
+    }
+
+    @Test(description = "Test the BallerinaMetricsSensor with a large generated project")
+    void testBallerinaMetricsSensorWithLargeProject() throws IOException {
+        SensorContextTester context = createContext(projectDir);
+        inputFiles.forEach(inputFile -> context.fileSystem().add(inputFile));
+        BallerinaMetricsSensor metricsSensor = new BallerinaMetricsSensor(language(),
+                inputFile -> new NoOpFileLinesContext());
+
+        long start = System.nanoTime();
+        metricsSensor.execute(context);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        InputFile lastFile = inputFiles.get(inputFiles.size() - 1);
+        Assert.assertEquals(context.measure(lastFile.key(), CoreMetrics.NCLOC_KEY).value(), LINES_PER_FILE);
+        Assert.assertEquals(context.measure(lastFile.key(), CoreMetrics.COMMENT_LINES_KEY).value(), LINES_PER_FILE);
+        Assert.assertTrue(elapsedMillis <= TIME_BUDGET_MILLIS, "Computing the metrics of " + inputFiles.size()
+                + " files took " + elapsedMillis + " ms, exceeding the budget of " + TIME_BUDGET_MILLIS + " ms");
+    }
+
+    private Path writeReport(Path reportPath, int issueCount) throws IOException {
+        String longMessage = "Avoid checkpanic ".repeat(LONG_MESSAGE_LENGTH / 17);
+        try (Writer writer = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8);
+             JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginArray();
+            for (int i = 0; i < issueCount; i++) {
+                InputFile inputFile = inputFiles.get(i % inputFiles.size());
+                int line = (i / inputFiles.size()) % (LINES_PER_FILE - 1);
+                // Shift the start offset once all lines are used, so that every generated issue is distinct
+                int startLineOffset = 4 + (i / (inputFiles.size() * (LINES_PER_FILE - 1))) % 30;
+                jsonWriter.beginObject()
+                        .name("startLine").value(line)
+                        .name("startLineOffset").value(startLineOffset)
+                        .name("endLine").value(line)
+                        .name("endLineOffset").value(39)
+                        .name("ruleID").value(RULE_IDS[i % RULE_IDS.length])
+                        .name("message").value(i % LONG_MESSAGE_INTERVAL == 0 ? longMessage : "Avoid checkpanic")
+                        .name("ruleKind").value("CODE_SMELL")
+                        .name("source").value("BUILT_IN")
+                        .name("fileName").value(inputFile.filename())
+                        .name("filePath").value(Path.of(inputFile.uri()).toString())
+                        .endObject();
+            }
+            jsonWriter.endArray();
+        }
+        return reportPath;
+    }
+
+    private static void resetPeakHeapUsage() {
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeapUsage() {
+        return heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    private BallerinaSensor sensor() {
+        return new BallerinaSensor(language());
+    }
+
+    private static final class NoOpFileLinesContext implements FileLinesContext {
+        @Override
+        public void setIntValue(String metricKey, int line, int value) {
+        }
+
+        @Override
+        public void setStringValue(String metricKey, int line, String value) {
+        }
+
+        @Override
+        public void save() {
+        }
+    }
+}
@@ -17,9 +17,13 @@
 
 package io.ballerina.sonar;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.TextRange;
 import org.sonar.api.batch.rule.Severity;
+import org.sonar.api.batch.sensor.highlighting.TypeOfText;
 import org.sonar.api.batch.sensor.internal.SensorContextTester;
 import org.sonar.api.batch.sensor.issue.ExternalIssue;
 import org.sonar.api.batch.sensor.issue.Issue;
@@ -36,6 +40,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
 import java.util.regex.Matcher;
 
@@ -50,7 +55,7 @@ public class BallerinaSensorTest extends AbstractSensorTest {
     @Test(description = "Test the BallerinaSensor")
     void testBallerinaSensor() throws IOException {
         Path projectDir = testResources.resolve("ballerina-project-with-report");
-        SensorContextTester context = SensorContextTester.create(projectDir);
+        SensorContextTester context = createContext(projectDir);
         cleanUp(projectDir);
 
         // Create mock issues file
@@ -108,12 +113,272 @@ public class BallerinaSensorTest extends AbstractSensorTest {
         Assert.assertEquals(textRange.start().lineOffset(), 0);
         Assert.assertEquals(textRange.end().line(), 22);
         Assert.assertEquals(textRange.end().lineOffset(), 1);
+
+        Path statisticsFile = context.fileSystem().workDir().toPath().resolve("ballerina-analysis-statistics.json");
+        JsonObject statistics = JsonParser.parseString(Files.readString(statisticsFile)).getAsJsonObject();
+        JsonObject counters = statistics.getAsJsonObject("counters");
+        Assert.assertEquals(counters.get("issuesRead").getAsInt(), 4);
+        Assert.assertEquals(counters.get("issuesSaved").getAsInt(), 4);
+        Assert.assertEquals(counters.get("unresolvedIssues").getAsInt(), 0);
+        Assert.assertTrue(statistics.getAsJsonObject("phasesMillis").has("reportParse"));
+    }
+
+    @Test(description = "Test that the BallerinaSensor saves duplicate issues only once")
+    void testBallerinaSensorDropsDuplicateIssues() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-report");
+        SensorContextTester context = createContext(projectDir);
+        cleanUp(projectDir);
+
+        // Create mock issues file in which every issue is reported twice
+        JsonArray issuesReport = issuesReport(projectDir);
+        issuesReport.addAll(issuesReport.deepCopy());
+        Path filePath = Files.writeString(Paths.get(projectDir.toString(), ISSUES_FILE_PATH),
+                issuesReport.toString(), StandardCharsets.UTF_8);
+
+        Settings settings = context.settings().appendProperty("analyzedResultsPath", filePath.toString());
+        context.setSettings((MapSettings) settings);
+        context.fileSystem().add(createInputFileFromPath(projectDir, "main.bal"));
+
+        // Trigger analysis
+        sensor().execute(context);
+        if (Files.exists(filePath)) {
+            Files.delete(filePath);
+        }
+        Assert.assertEquals(context.allIssues().size(), 3);
+        Assert.assertEquals(context.allExternalIssues().size(), 1);
+
+        Path statisticsFile = context.fileSystem().workDir().toPath().resolve("ballerina-analysis-statistics.json");
+        JsonObject statistics = JsonParser.parseString(Files.readString(statisticsFile)).getAsJsonObject();
+        JsonObject counters = statistics.getAsJsonObject("counters");
+        Assert.assertEquals(counters.get("issuesRead").getAsInt(), 8);
+        Assert.assertEquals(counters.get("duplicateIssues").getAsInt(), 4);
+        Assert.assertEquals(counters.get("issuesSaved").getAsInt(), 4);
+    }
+
+    @Test(description = "Test that the BallerinaSensor merges the reports matching a glob and reports shared " +
+            "issues once")
+    void testBallerinaSensorMergesShardedReports() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-report");
+        SensorContextTester context = createContext(projectDir);
+        cleanUp(projectDir);
+
+        // Create two shard reports sharing the second and third issues
+        JsonArray issuesReport = issuesReport(projectDir);
+        JsonArray firstShard = new JsonArray();
+        JsonArray secondShard = new JsonArray();
+        for (int i = 0; i < issuesReport.size(); i++) {
+            (i < 3 ? firstShard : secondShard).add(issuesReport.get(i));
+            if (i == 1 || i == 2) {
+                secondShard.add(issuesReport.get(i));
+            }
+        }
+        Path shardsDir = createTempDirectory("ballerina-report-shards");
+        Files.writeString(shardsDir.resolve("shard-1.json"), firstShard.toString(), StandardCharsets.UTF_8);
+        Files.writeString(shardsDir.resolve("shard-2.json"), secondShard.toString(), StandardCharsets.UTF_8);
+
+        MapSettings settings = new MapSettings();
+        settings.setProperty("analyzedResultsPath", shardsDir.resolve("shard-*.json").toString());
+        context.setSettings(settings);
+        context.fileSystem().add(createInputFileFromPath(projectDir, "main.bal"));
+
+        // Trigger analysis
+        sensor().execute(context);
+        Assert.assertEquals(context.allIssues().size(), 3);
+        Assert.assertEquals(context.allExternalIssues().size(), 1);
+
+        Path statisticsFile = context.fileSystem().workDir().toPath().resolve("ballerina-analysis-statistics.json");
+        JsonObject statistics = JsonParser.parseString(Files.readString(statisticsFile)).getAsJsonObject();
+        JsonObject counters = statistics.getAsJsonObject("counters");
+        Assert.assertEquals(counters.get("issuesRead").getAsInt(), 6);
+        Assert.assertEquals(counters.get("duplicateIssues").getAsInt(), 2);
+        Assert.assertEquals(counters.get("issuesSaved").getAsInt(), 4);
+    }
+
+    @Test(description = "Test that the BallerinaSensor reads the shards of a sharded report in manifest order")
+    void testBallerinaSensorWithShardedReport() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-report");
+        SensorContextTester context = createContext(projectDir);
+        cleanUp(projectDir);
+
+        // Create a sharded report of two shards and its manifest
+        JsonArray issuesReport = issuesReport(projectDir);
+        JsonArray firstShard = new JsonArray();
+        JsonArray secondShard = new JsonArray();
+        for (int i = 0; i < issuesReport.size(); i++) {
+            (i < 3 ? firstShard : secondShard).add(issuesReport.get(i));
+        }
+        Path reportDir = createTempDirectory("ballerina-sharded-report");
+        Files.writeString(reportDir.resolve("shard-00000.json"), firstShard.toString(), StandardCharsets.UTF_8);
+        Files.writeString(reportDir.resolve("shard-00001.json"), secondShard.toString(), StandardCharsets.UTF_8);
+        Files.writeString(reportDir.resolve("manifest.json"), "{\"version\": 1, \"issueCount\": 4, \"shards\": [" +
+                "{\"path\": \"shard-00000.json\", \"issueCount\": 3}, " +
+                "{\"path\": \"shard-00001.json\", \"issueCount\": 1}]}", StandardCharsets.UTF_8);
+
+        MapSettings settings = new MapSettings();
+        settings.setProperty("analyzedResultsPath", reportDir.toString());
+        context.setSettings(settings);
+        context.fileSystem().add(createInputFileFromPath(projectDir, "main.bal"));
+
+        // Trigger analysis
+        sensor().execute(context);
+        List<Issue> issues = context.allIssues().stream().toList();
+        Assert.assertEquals(issues.size(), 3);
+        assertIssue(issues.get(0), "ballerina:ballerina-1", "Avoid checkpanic", 21, 17, 21, 39);
+        Assert.assertEquals(context.allExternalIssues().size(), 1);
+
+        Path statisticsFile = context.fileSystem().workDir().toPath().resolve("ballerina-analysis-statistics.json");
+        JsonObject statistics = JsonParser.parseString(Files.readString(statisticsFile)).getAsJsonObject();
+        JsonObject counters = statistics.getAsJsonObject("counters");
+        Assert.assertEquals(counters.get("issuesRead").getAsInt(), 4);
+        Assert.assertEquals(counters.get("issuesSaved").getAsInt(), 4);
+    }
+
+    @Test(description = "Test that the BallerinaSensor fits out of range issue locations into their file")
+    void testBallerinaSensorFitsOutOfRangeLocations() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-report");
+        SensorContextTester context = createContext(projectDir);
+        cleanUp(projectDir);
+
+        // Create mock issues file with an offset past the end of its line, an empty location and a line past the
+        // end of the file
+        JsonArray issuesReport = new JsonArray();
+        issuesReport.add(issueAt(issuesReport(projectDir), 20, 17, 20, 400));
+        issuesReport.add(issueAt(issuesReport(projectDir), 20, 5, 20, 5));
+        issuesReport.add(issueAt(issuesReport(projectDir), 30, 0, 30, 5));
+        Path filePath = Files.writeString(Paths.get(projectDir.toString(), ISSUES_FILE_PATH),
+                issuesReport.toString(), StandardCharsets.UTF_8);
+        Settings settings = context.settings().appendProperty("analyzedResultsPath", filePath.toString());
+        context.setSettings((MapSettings) settings);
+        context.fileSystem().add(createInputFileFromPath(projectDir, "main.bal"));
+
+        // Trigger analysis
+        sensor().execute(context);
+        if (Files.exists(filePath)) {
+            Files.delete(filePath);
+        }
+        List<Issue> issues = context.allIssues().stream().toList();
+        Assert.assertEquals(issues.size(), 2);
+        assertIssue(issues.get(0), "ballerina:ballerina-1", "Avoid checkpanic", 21, 17, 21, 40);
+        assertIssue(issues.get(1), "ballerina:ballerina-1", "Avoid checkpanic", 21, 0, 21, 40);
+
+        Path statisticsFile = context.fileSystem().workDir().toPath().resolve("ballerina-analysis-statistics.json");
+        JsonObject statistics = JsonParser.parseString(Files.readString(statisticsFile)).getAsJsonObject();
+        JsonObject counters = statistics.getAsJsonObject("counters");
+        Assert.assertEquals(counters.get("clampedLocations").getAsInt(), 2);
+        Assert.assertEquals(counters.get("droppedLocations").getAsInt(), 1);
+    }
+
+    @Test(description = "Test that the BallerinaSensor stops saving issues of a file above the per-file limit")
+    void testBallerinaSensorCapsIssuesPerFile() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-report");
+        SensorContextTester context = createContext(projectDir);
+        cleanUp(projectDir);
+
+        Path filePath = Files.writeString(Paths.get(projectDir.toString(), ISSUES_FILE_PATH),
+                issuesReport(projectDir).toString(), StandardCharsets.UTF_8);
+        MapSettings settings = new MapSettings();
+        settings.setProperty("analyzedResultsPath", filePath.toString());
+        settings.setProperty("sonar.ballerina.issues.maxPerFile", 2);
+        context.setSettings(settings);
+        context.fileSystem().add(createInputFileFromPath(projectDir, "main.bal"));
+
+        // Trigger analysis
+        sensor().execute(context);
+        if (Files.exists(filePath)) {
+            Files.delete(filePath);
+        }
+        Assert.assertEquals(context.allIssues().size(), 2);
+        Assert.assertEquals(context.allExternalIssues().size(), 0);
+
+        Path statisticsFile = context.fileSystem().workDir().toPath().resolve("ballerina-analysis-statistics.json");
+        JsonObject statistics = JsonParser.parseString(Files.readString(statisticsFile)).getAsJsonObject();
+        JsonObject counters = statistics.getAsJsonObject("counters");
+        Assert.assertEquals(counters.get("issuesSaved").getAsInt(), 2);
+        Assert.assertEquals(counters.get("suppressedIssues").getAsInt(), 2);
+    }
+
+    @Test(description = "Test that the BallerinaSensor stops reporting issues once the analysis is cancelled")
+    void testBallerinaSensorCancelled() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-report");
+        SensorContextTester context = createContext(projectDir);
+        cleanUp(projectDir);
+
+        Path filePath = Files.writeString(Paths.get(projectDir.toString(), ISSUES_FILE_PATH),
+                issuesReport(projectDir).toString(), StandardCharsets.UTF_8);
+        Settings settings = context.settings().appendProperty("analyzedResultsPath", filePath.toString());
+        context.setSettings((MapSettings) settings);
+        context.fileSystem().add(createInputFileFromPath(projectDir, "main.bal"));
+        context.setCancelled(true);
+
+        // Trigger analysis
+        sensor().execute(context);
+        if (Files.exists(filePath)) {
+            Files.delete(filePath);
+        }
+        Assert.assertTrue(context.allIssues().isEmpty());
+        Assert.assertTrue(context.allExternalIssues().isEmpty());
+    }
+
+    @Test(description = "Test that the BallerinaSensor saves the syntax highlighting and symbols next to a report")
+    void testBallerinaSensorSavesSyntaxData() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-report");
+        SensorContextTester context = createContext(projectDir);
+        cleanUp(projectDir);
+
+        Path filePath = Files.writeString(Paths.get(projectDir.toString(), ISSUES_FILE_PATH),
+                issuesReport(projectDir).toString(), StandardCharsets.UTF_8);
+
+        // Highlight the first keyword and comment of main.bal and resolve the call to getResult
+        JsonObject highlighting = new JsonObject();
+        highlighting.add("k", ranges(16, 0, 16, 8));
+        highlighting.add("cd", ranges(19, 4, 19, 20));
+        JsonArray symbols = new JsonArray();
+        symbols.add(ranges(16, 9, 16, 18, 20, 28, 20, 37));
+        JsonObject fileSyntaxData = new JsonObject();
+        fileSyntaxData.addProperty("filePath", projectDir.resolve("main.bal").toAbsolutePath().toString());
+        fileSyntaxData.add("highlighting", highlighting);
+        fileSyntaxData.add("symbols", symbols);
+        JsonObject unindexedFileSyntaxData = fileSyntaxData.deepCopy();
+        unindexedFileSyntaxData.addProperty("filePath", projectDir.resolve("other.bal").toAbsolutePath().toString());
+        JsonArray syntaxData = new JsonArray();
+        syntaxData.add(unindexedFileSyntaxData);
+        syntaxData.add(fileSyntaxData);
+        Files.writeString(projectDir.resolve("ballerina-syntax-data.json"), syntaxData.toString(),
+                StandardCharsets.UTF_8);
+
+        Settings settings = context.settings().appendProperty("analyzedResultsPath", filePath.toString());
+        context.setSettings((MapSettings) settings);
+        InputFile ballerinaFile = createInputFileFromPath(projectDir, "main.bal");
+        context.fileSystem().add(ballerinaFile);
+
+        // Trigger analysis
+        sensor().execute(context);
+        cleanUp(projectDir);
+        Assert.assertEquals(context.allIssues().size(), 3);
+        Assert.assertEquals(context.highlightingTypeAt(ballerinaFile.key(), 17, 0), List.of(TypeOfText.KEYWORD));
+        Assert.assertEquals(context.highlightingTypeAt(ballerinaFile.key(), 20, 4), List.of(TypeOfText.COMMENT));
+        Assert.assertTrue(context.highlightingTypeAt(ballerinaFile.key(), 21, 4).isEmpty());
+        Collection<TextRange> references = context.referencesForSymbolAt(ballerinaFile.key(), 17, 9);
+        Assert.assertNotNull(references);
+        Assert.assertEquals(references.size(), 1);
+        TextRange reference = references.iterator().next();
+        Assert.assertEquals(reference.start().line(), 21);
+        Assert.assertEquals(reference.start().lineOffset(), 28);
+        Assert.assertEquals(reference.end().line(), 21);
+        Assert.assertEquals(reference.end().lineOffset(), 37);
+    }
+
+    @Test(description = "Test that the UTF-8 size of an in-memory report is counted without encoding it")
+    void testUtf8Length() {
+        for (String text : List.of("", "ascii", "caf\u00e9", "\u20ac 1", "\ud83d\ude00 emoji", "unpaired \ud83d")) {
+            Assert.assertEquals(BallerinaSensor.utf8Length(text), text.getBytes(StandardCharsets.UTF_8).length, text);
+        }
     }
 
     @Test(description = "Test the BallerinaSensor with the scan command")
     void testBallerinaSensorWithScanCommand() throws IOException {
         Path projectDir = testResources.resolve("ballerina-project-wo-report");
-        SensorContextTester context = SensorContextTester.create(projectDir);
+        SensorContextTester context = createContext(projectDir);
         cleanUp(projectDir);
 
         // Add mock input files
@@ -130,6 +395,33 @@ public class BallerinaSensorTest extends AbstractSensorTest {
         assertIssue(issues.get(0), "ballerina:ballerina:1", "Avoid checkpanic", 21, 17, 21, 39);
     }
 
+    private JsonArray issuesReport(Path projectDir) throws IOException {
+        String resourceFileContent = Files.readString(
+                projectDir.resolve("ballerina-static-code-analysis-results.json.template"));
+        String projectAbsolutePath = projectDir.resolve("main.bal").toAbsolutePath().toString().replace("\\", "\\\\");
+        resourceFileContent = resourceFileContent.replaceAll("__file_path__", Matcher
+                .quoteReplacement(projectAbsolutePath));
+        return JsonParser.parseString(resourceFileContent).getAsJsonArray();
+    }
+
+    private static JsonArray ranges(int... positions) {
+        JsonArray ranges = new JsonArray();
+        for (int position : positions) {
+            ranges.add(position);
+        }
+        return ranges;
+    }
+
+    private static JsonObject issueAt(JsonArray issuesReport, int startLine, int startLineOffset, int endLine,
+                                      int endLineOffset) {
+        JsonObject issue = issuesReport.get(0).getAsJsonObject();
+        issue.addProperty("startLine", startLine);
+        issue.addProperty("startLineOffset", startLineOffset);
+        issue.addProperty("endLine", endLine);
+        issue.addProperty("endLineOffset", endLineOffset);
+        return issue;
+    }
+
     private void assertIssue(Issue issue, String ruleKey, String message, int startLine, int startLineOffset,
                              int endLine, int endLineOffset) {
         Assert.assertEquals(issue.ruleKey().toString(), ruleKey);
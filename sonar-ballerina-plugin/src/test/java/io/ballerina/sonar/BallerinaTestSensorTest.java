@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.sonar.api.measures.CoreMetrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * {@code BallerinaTestSensorTest} is the test class for the {@link BallerinaTestSensor}.
+ *
+ * @since 0.2.0
+ */
+public class BallerinaTestSensorTest extends AbstractSensorTest {
+    @Test(description = "Test importing the test results of the default module and of a submodule")
+    void testBallerinaTestSensor() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-with-coverage");
+        SensorContextTester context = createContext(projectDir);
+        InputFile mainTestFile = createInputFileFromPath(projectDir, "tests/main_test.bal");
+        InputFile utilsTestFile = createInputFileFromPath(projectDir, "modules/utils/tests/utils_test.bal");
+        context.fileSystem().add(createInputFileFromPath(projectDir, "main.bal"));
+        context.fileSystem().add(mainTestFile);
+        context.fileSystem().add(utilsTestFile);
+
+        new BallerinaTestSensor(language()).execute(context);
+
+        Assert.assertEquals(measure(context, mainTestFile, CoreMetrics.TESTS_KEY), 1);
+        Assert.assertEquals(measure(context, mainTestFile, CoreMetrics.SKIPPED_TESTS_KEY), 1);
+        Assert.assertEquals(measure(context, mainTestFile, CoreMetrics.TEST_FAILURES_KEY), 0);
+        Assert.assertEquals(measure(context, mainTestFile, CoreMetrics.TEST_EXECUTION_TIME_KEY), 12L);
+
+        // Both data sets of testAdd are attributed to the file declaring the function
+        Assert.assertEquals(measure(context, utilsTestFile, CoreMetrics.TESTS_KEY), 3);
+        Assert.assertEquals(measure(context, utilsTestFile, CoreMetrics.TEST_FAILURES_KEY), 1);
+        Assert.assertEquals(measure(context, utilsTestFile, CoreMetrics.TEST_ERRORS_KEY), 0);
+        Assert.assertEquals(measure(context, utilsTestFile, CoreMetrics.SKIPPED_TESTS_KEY), 0);
+        Assert.assertEquals(measure(context, utilsTestFile, CoreMetrics.TEST_EXECUTION_TIME_KEY), 12L);
+    }
+
+    @Test(description = "Test that no measure is saved when there is no test results report")
+    void testBallerinaTestSensorWithoutReport() throws IOException {
+        Path projectDir = testResources.resolve("ballerina-project-wo-report");
+        SensorContextTester context = createContext(projectDir);
+        InputFile mainFile = createInputFileFromPath(projectDir, "main.bal");
+        context.fileSystem().add(mainFile);
+
+        new BallerinaTestSensor(language()).execute(context);
+
+        Assert.assertNull(context.measure(mainFile.key(), CoreMetrics.TESTS_KEY));
+    }
+
+    private static Object measure(SensorContextTester context, InputFile inputFile, String metricKey) {
+        return context.measure(inputFile.key(), metricKey).value();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@code FileGroupedIssuesTest} contains the tests for {@link FileGroupedIssues}.
+ *
+ * @since 0.2.0
+ */
+public class FileGroupedIssuesTest {
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("file-grouped-issues");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test that issues are grouped by file in memory, keeping the order of the issues of a file")
+    void testGroupInMemory() throws IOException {
+        Path spillDirectory = Files.createDirectory(testDirectory.resolve("issue-runs"));
+        try (IssueReportReader reader = IssueReportReader.open(report());
+             FileGroupedIssues issues = FileGroupedIssues.group(reader, spillDirectory, 100)) {
+            Assert.assertEquals(issues.spilledRuns(), 0);
+            Assert.assertEquals(issues.issueCount(), 6);
+            Assert.assertEquals(List.copyOf(issues.filePaths()), List.of("/a.bal", "/b.bal", "/c.bal"));
+            Assert.assertEquals(issueIds(issues), List.of(1, 3, 6, 2, 5, 4));
+        }
+    }
+
+    @Test(description = "Test that issues are grouped by file through runs spilled to disk and deleted on close")
+    void testGroupWithSpilledRuns() throws IOException {
+        Path spillDirectory = Files.createDirectory(testDirectory.resolve("issue-runs"));
+        try (IssueReportReader reader = IssueReportReader.open(report());
+             FileGroupedIssues issues = FileGroupedIssues.group(reader, spillDirectory, 2)) {
+            Assert.assertEquals(issues.spilledRuns(), 3);
+            Assert.assertEquals(issueIds(issues), List.of(1, 3, 6, 2, 5, 4));
+        }
+        try (Stream<Path> runs = Files.list(spillDirectory)) {
+            Assert.assertEquals(runs.count(), 0L);
+        }
+    }
+
+    // The start line of an issue is its position in the report
+    private Path report() throws IOException {
+        String[] filePaths = {"/a.bal", "/b.bal", "/a.bal", "/c.bal", "/b.bal", "/a.bal"};
+        JsonArray report = new JsonArray();
+        for (int i = 0; i < filePaths.length; i++) {
+            JsonObject issue = new JsonObject();
+            issue.addProperty("startLine", i + 1);
+            issue.addProperty("startLineOffset", 0);
+            issue.addProperty("endLine", i + 1);
+            issue.addProperty("endLineOffset", 1);
+            issue.addProperty("ruleID", "ballerina:1");
+            issue.addProperty("message", "Issue " + (i + 1));
+            issue.addProperty("source", "BUILT_IN");
+            issue.addProperty("filePath", filePaths[i]);
+            report.add(issue);
+        }
+        return Files.writeString(testDirectory.resolve("ballerina-issues.json"), report.toString(),
+                StandardCharsets.UTF_8);
+    }
+
+    private static List<Integer> issueIds(FileGroupedIssues issues) {
+        List<Integer> issueIds = new ArrayList<>();
+        issues.forEachRemaining(table -> {
+            for (int row = 0; row < table.size(); row++) {
+                issueIds.add(table.startLine(row));
+            }
+        });
+        return issueIds;
+    }
+}
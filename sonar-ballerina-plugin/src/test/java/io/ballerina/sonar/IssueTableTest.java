@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * {@code IssueTableTest} contains the tests for {@link IssueTable}.
+ *
+ * @since 0.2.0
+ */
+public class IssueTableTest {
+    @Test(description = "Test that the issues are stored in columns and read back row by row")
+    void testIssueColumns() {
+        IssueTable table = IssueTable.of(issues("/b.bal", "/a.bal"));
+        table.add("/a.bal", "ballerina:2", null, "BUG", "EXTERNAL", 10, 2, 11, 3);
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertEquals(table.filePath(0), "/b.bal");
+        Assert.assertEquals(table.ruleId(0), "ballerina:1");
+        Assert.assertEquals(table.message(1), "Issue 2");
+        Assert.assertNull(table.ruleKind(1));
+        Assert.assertEquals(table.source(1), "BUILT_IN");
+        Assert.assertEquals(table.startLine(1), 2);
+        Assert.assertEquals(table.endLineOffset(1), 1);
+        Assert.assertNull(table.message(2));
+        Assert.assertEquals(table.ruleKind(2), "BUG");
+        Assert.assertEquals(table.source(2), "EXTERNAL");
+        Assert.assertEquals(List.of(table.startLine(2), table.startLineOffset(2), table.endLine(2),
+                table.endLineOffset(2)), List.of(10, 2, 11, 3));
+        Assert.assertEquals(table.filePaths(), List.of("/b.bal", "/a.bal"));
+    }
+
+    @Test(description = "Test that the rows are sorted by file path in place, keeping the order of a file")
+    void testSortByFilePath() {
+        IssueTable table = IssueTable.of(issues("/b.bal", "/a.bal", "/c.bal", "/a.bal", "/b.bal", "/a.bal"));
+        table.sortByFilePath();
+        int[] startLines = new int[table.size()];
+        for (int row = 0; row < table.size(); row++) {
+            startLines[row] = table.startLine(row);
+            Assert.assertEquals(table.message(row), "Issue " + startLines[row]);
+        }
+        Assert.assertEquals(startLines, new int[]{2, 4, 6, 1, 5, 3});
+        Assert.assertEquals(table.filePaths(), List.of("/a.bal", "/b.bal", "/c.bal"));
+    }
+
+    @Test(description = "Test that file paths have int ids while sources are limited to byte ids")
+    void testDictionarySizes() {
+        IssueTable table = new IssueTable();
+        for (int i = 0; i < 300; i++) {
+            table.add("/" + i + ".bal", "ballerina:1", "Issue", null, "BUILT_IN", 1, 0, 1, 1);
+        }
+        Assert.assertEquals(table.filePath(299), "/299.bal");
+        Assert.assertEquals(table.filePaths().size(), 300);
+        for (int i = 1; i < 255; i++) {
+            table.add("/a.bal", "ballerina:1", "Issue", null, "SOURCE_" + i, 1, 0, 1, 1);
+        }
+        Assert.assertEquals(table.source(table.size() - 1), "SOURCE_254");
+        Assert.assertThrows(IllegalStateException.class,
+                () -> table.add("/a.bal", "ballerina:1", "Issue", null, "SOURCE_255", 1, 0, 1, 1));
+    }
+
+    @Test(description = "Test that an issue is decoded from a report without its unknown and null fields")
+    void testReadIssue() throws IOException {
+        JsonObject issue = issues("/a.bal").get(0).getAsJsonObject();
+        issue.add("ruleKind", null);
+        issue.addProperty("description", "Unused field");
+        IssueTable table = new IssueTable(1);
+        try (JsonReader jsonReader = new JsonReader(new StringReader(issue.toString()))) {
+            table.read(jsonReader);
+        }
+        Assert.assertEquals(table.size(), 1);
+        Assert.assertEquals(table.filePath(0), "/a.bal");
+        Assert.assertEquals(table.message(0), "Issue 1");
+        Assert.assertNull(table.ruleKind(0));
+
+        issue.remove("ruleID");
+        try (JsonReader jsonReader = new JsonReader(new StringReader(issue.toString()))) {
+            Assert.assertThrows(IllegalStateException.class, () -> table.read(jsonReader));
+        }
+    }
+
+    // The start line of an issue is its position in the report
+    private static JsonArray issues(String... filePaths) {
+        JsonArray issues = new JsonArray();
+        for (int i = 0; i < filePaths.length; i++) {
+            JsonObject issue = new JsonObject();
+            issue.addProperty("startLine", i + 1);
+            issue.addProperty("startLineOffset", 0);
+            issue.addProperty("endLine", i + 1);
+            issue.addProperty("endLineOffset", 1);
+            issue.addProperty("ruleID", "ballerina:1");
+            issue.addProperty("message", "Issue " + (i + 1));
+            issue.addProperty("source", "BUILT_IN");
+            issue.addProperty("filePath", filePaths[i]);
+            issues.add(issue);
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@code ScanTargetsTest} contains the tests for {@link ScanTargets}.
+ *
+ * @since 0.2.0
+ */
+public class ScanTargetsTest {
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("scan-targets");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test that only packages and standalone files with indexed files are scanned")
+    void testScanTargets() throws IOException {
+        Path baseDir = testDirectory.toRealPath();
+        Path servicePackage = createPackage(baseDir.resolve("service"));
+        Path mainFile = Files.writeString(servicePackage.resolve("main.bal"), "");
+        Path moduleFile = Files.writeString(Files.createDirectories(servicePackage.resolve("modules/db"))
+                .resolve("db.bal"), "");
+        Path generatedPackage = createPackage(baseDir.resolve("generated"));
+        Files.writeString(generatedPackage.resolve("client.bal"), "");
+        Path scriptFile = Files.writeString(Files.createDirectories(baseDir.resolve("scripts")).resolve("tool.bal"),
+                "");
+
+        Set<Path> scanTargets = ScanTargets.of(baseDir, List.of(mainFile.toString(), moduleFile.toString(),
+                scriptFile.toString()));
+        Assert.assertEquals(List.copyOf(scanTargets), List.of(scriptFile, servicePackage));
+    }
+
+    private static Path createPackage(Path packageRoot) throws IOException {
+        Files.createDirectories(packageRoot);
+        Files.writeString(packageRoot.resolve("Ballerina.toml"), "[package]\n");
+        return packageRoot;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@code ShadowWorkspaceTest} contains the tests for the {@link ShadowWorkspace}.
+ *
+ * @since 0.2.0
+ */
+public class ShadowWorkspaceTest {
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("shadow-workspace-test");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test that the shadow copy holds the unsaved contents and keeps the build output")
+    void testPrepare() throws IOException {
+        Path packageRoot = Files.createDirectory(testDirectory.resolve("package"));
+        Files.writeString(packageRoot.resolve("Ballerina.toml"), "[package]\n");
+        Path mainFile = Files.writeString(packageRoot.resolve("main.bal"), "public function main() {}\n");
+        Path utilsFile = Files.writeString(packageRoot.resolve("utils.bal"), "function utils() {}\n");
+        Files.writeString(Files.createDirectories(packageRoot.resolve("target")).resolve("build"), "");
+
+        ShadowWorkspace shadowWorkspace = new ShadowWorkspace(Files.createDirectory(testDirectory.resolve("shadow")));
+        InputFile mainInputFile = TestInputFileBuilder.create("moduleKey", "main.bal")
+                .setModuleBaseDir(packageRoot)
+                .setCharset(StandardCharsets.UTF_8)
+                .setContents("public function main() { int unsaved = 1; }\n")
+                .build();
+        Map<String, InputFile> shadowPathAndInputFiles = shadowWorkspace.prepare(packageRoot,
+                Map.of(mainFile.toString(), mainInputFile));
+
+        Path shadowRoot = shadowWorkspace.shadowTarget(packageRoot);
+        Path shadowMainFile = shadowRoot.resolve("main.bal");
+        Assert.assertEquals(shadowPathAndInputFiles, Map.of(shadowMainFile.toString(), mainInputFile));
+        Assert.assertEquals(Files.readString(shadowMainFile), "public function main() { int unsaved = 1; }\n");
+        Assert.assertEquals(Files.readString(shadowRoot.resolve("utils.bal")), "function utils() {}\n");
+        Assert.assertFalse(Files.exists(shadowRoot.resolve("target")));
+
+        // Deleted files are removed from the copy while its build output is kept
+        Files.writeString(Files.createDirectories(shadowRoot.resolve("target")).resolve("cache"), "");
+        Files.delete(utilsFile);
+        shadowWorkspace.prepare(packageRoot, Map.of(mainFile.toString(), mainInputFile));
+        Assert.assertFalse(Files.exists(shadowRoot.resolve("utils.bal")));
+        Assert.assertTrue(Files.exists(shadowRoot.resolve("target").resolve("cache")));
+    }
+}
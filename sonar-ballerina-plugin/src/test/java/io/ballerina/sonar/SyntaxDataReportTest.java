@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.sonar.api.batch.sensor.highlighting.TypeOfText;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.ballerina.sonar.Constants.ISSUE_FILE_PATH;
+import static io.ballerina.sonar.Constants.SYNTAX_DATA_HIGHLIGHTING;
+import static io.ballerina.sonar.Constants.SYNTAX_DATA_SYMBOLS;
+
+/**
+ * {@code SyntaxDataReportTest} contains the tests for saving the syntax data of the Ballerina files.
+ *
+ * @since 0.2.0
+ */
+public class SyntaxDataReportTest {
+    private Path baseDir;
+
+    @BeforeMethod
+    void createBaseDir() throws IOException {
+        baseDir = Files.createTempDirectory("syntax-data-report");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteBaseDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(baseDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Test(description = "Test that the highlighting of a file is saved when its symbols do not fit the file")
+    void testSaveCountsHighlightingAndSymbolsSeparately() throws IOException {
+        InputFile inputFile = TestInputFileBuilder.create("moduleKey", "main.bal")
+                .setModuleBaseDir(baseDir)
+                .setCharset(StandardCharsets.UTF_8)
+                .setContents("public function main() {\n}\n")
+                .build();
+        String filePath = Path.of(inputFile.uri()).toString();
+
+        JsonObject highlighting = new JsonObject();
+        highlighting.add("k", ranges(0, 0, 0, 6));
+        JsonArray symbols = new JsonArray();
+        // The reference is past the end of the file
+        symbols.add(ranges(0, 16, 0, 20, 9, 0, 9, 4));
+        JsonObject fileSyntaxData = new JsonObject();
+        fileSyntaxData.addProperty(ISSUE_FILE_PATH, filePath);
+        fileSyntaxData.add(SYNTAX_DATA_HIGHLIGHTING, highlighting);
+        fileSyntaxData.add(SYNTAX_DATA_SYMBOLS, symbols);
+        JsonArray syntaxData = new JsonArray();
+        syntaxData.add(fileSyntaxData);
+        Path syntaxDataPath = Files.writeString(baseDir.resolve("ballerina-syntax-data.json"),
+                syntaxData.toString(), StandardCharsets.UTF_8);
+        SensorContextTester context = SensorContextTester.create(baseDir);
+
+        SyntaxDataReport.Counts counts = SyntaxDataReport.save(context, syntaxDataPath,
+                Map.of(filePath, inputFile), new HashSet<>());
+
+        Assert.assertEquals(counts, new SyntaxDataReport.Counts(1, 0, 0, 1));
+        Assert.assertEquals(context.highlightingTypeAt(inputFile.key(), 1, 2), List.of(TypeOfText.KEYWORD));
+        Assert.assertNull(context.referencesForSymbolAt(inputFile.key(), 1, 17));
+    }
+
+    private static JsonArray ranges(int... positions) {
+        JsonArray ranges = new JsonArray();
+        for (int position : positions) {
+            ranges.add(position);
+        }
+        return ranges;
+    }
+}
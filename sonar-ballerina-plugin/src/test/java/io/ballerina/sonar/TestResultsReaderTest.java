@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code TestResultsReaderTest} contains the tests for streaming the test results of a {@code bal test} report.
+ *
+ * @since 0.2.0
+ */
+public class TestResultsReaderTest {
+    private Path report;
+
+    @BeforeMethod
+    void createReport() throws IOException {
+        report = Files.createTempFile("test_results", ".json");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteReport() throws IOException {
+        Files.deleteIfExists(report);
+    }
+
+    @Test(description = "Test that the tests listed before the name of their module are attributed to the module")
+    void testReadWithTestsBeforeModuleName() throws IOException {
+        Files.writeString(report, """
+                {
+                  "moduleStatus": [
+                    {
+                      "tests": [
+                        {"status": "PASSED", "name": "testAdd", "duration": 3},
+                        {"name": "testSubtract", "status": "FAILURE"}
+                      ],
+                      "name": "ballerina_project.utils"
+                    },
+                    {
+                      "name": "ballerina_project",
+                      "tests": [{"name": "testMain", "status": "SKIPPED"}]
+                    },
+                    {
+                      "tests": [{"name": "testUnnamed", "status": "PASSED"}]
+                    }
+                  ]
+                }
+                """, StandardCharsets.UTF_8);
+        List<String> tests = new ArrayList<>();
+
+        TestResultsReader.read(report, (moduleName, testName, status, durationMillis) ->
+                tests.add(moduleName + ":" + testName + ":" + status + ":" + durationMillis));
+
+        Assert.assertEquals(tests, List.of(
+                "ballerina_project.utils:testAdd:PASSED:3",
+                "ballerina_project.utils:testSubtract:FAILURE:" + TestResultsReader.UNKNOWN_DURATION,
+                "ballerina_project:testMain:SKIPPED:" + TestResultsReader.UNKNOWN_DURATION,
+                "null:testUnnamed:PASSED:" + TestResultsReader.UNKNOWN_DURATION));
+    }
+}
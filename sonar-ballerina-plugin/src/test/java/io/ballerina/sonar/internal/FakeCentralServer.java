@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Local stand-in for the Ballerina Central scan tool API, serving the scan tool metadata, a generated bala and its
+ * README. Latency, bandwidth, status codes and archive corruption can be injected to test and measure the rule
+ * loading of the {@link RuleGenerator}.
+ *
+ * @since 0.2.0
+ */
+final class FakeCentralServer implements AutoCloseable {
+    private static final String METADATA_PATH = "/2.0/registry/tools/scan/";
+    private static final String BALA_PATH = "/2.0/registry/tools/scan/scan-tool.bala";
+    private static final int CHUNKS_PER_SECOND = 10;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final String readme;
+    private final byte[] bala;
+    private final AtomicInteger metadataRequests = new AtomicInteger();
+    private final AtomicInteger balaRequests = new AtomicInteger();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile long bytesPerSecond;
+    private volatile int metadataStatus = 200;
+    private volatile int balaStatus = 200;
+    private volatile Corruption corruption = Corruption.NONE;
+
+    /**
+     * Ways in which the served bala can be damaged.
+     */
+    enum Corruption {
+        NONE,
+        // The archive bytes are overwritten with garbage
+        GARBAGE,
+        // The connection is closed after half of the archive
+        TRUNCATED
+    }
+
+    FakeCentralServer(int ruleCount) throws IOException {
+        readme = createReadme(ruleCount);
+        bala = createBala(ruleCount);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(BALA_PATH, this::serveBala);
+        server.createContext(METADATA_PATH, this::serveMetadata);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    URI metadataUri() {
+        return baseUri().resolve(METADATA_PATH);
+    }
+
+    FakeCentralServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Limits the rate at which response bodies are sent, {@code 0} meaning unlimited.
+     */
+    FakeCentralServer bandwidth(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        return this;
+    }
+
+    FakeCentralServer metadataStatus(int metadataStatus) {
+        this.metadataStatus = metadataStatus;
+        return this;
+    }
+
+    FakeCentralServer balaStatus(int balaStatus) {
+        this.balaStatus = balaStatus;
+        return this;
+    }
+
+    FakeCentralServer corruption(Corruption corruption) {
+        this.corruption = corruption;
+        return this;
+    }
+
+    int balaSize() {
+        return bala.length;
+    }
+
+    int metadataRequests() {
+        return metadataRequests.get();
+    }
+
+    int balaRequests() {
+        return balaRequests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private URI baseUri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    private void serveMetadata(HttpExchange exchange) throws IOException {
+        metadataRequests.incrementAndGet();
+        JsonObject metadata = new JsonObject();
+        metadata.addProperty("readme", readme);
+        metadata.addProperty("balaURL", baseUri().resolve(BALA_PATH).toString());
+        send(exchange, metadataStatus, metadata.toString().getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    private void serveBala(HttpExchange exchange) throws IOException {
+        balaRequests.incrementAndGet();
+        byte[] body = bala;
+        if (corruption == Corruption.GARBAGE) {
+            body = Arrays.copyOf(bala, bala.length);
+            for (int i = 0; i < body.length; i += 2) {
+                body[i] = (byte) ~body[i];
+            }
+        }
+        send(exchange, balaStatus, body, corruption == Corruption.TRUNCATED);
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body, boolean truncate) throws IOException {
+        try (exchange) {
+            sleep(latency.toMillis());
+            if (status != 200) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            // A truncated body is sent chunked, so that the client cannot tell it apart from a complete one
+            exchange.sendResponseHeaders(status, truncate ? 0 : body.length);
+            int length = truncate ? body.length / 2 : body.length;
+            int chunkSize = bytesPerSecond > 0 ? (int) Math.max(1, bytesPerSecond / CHUNKS_PER_SECOND) : length;
+            OutputStream out = exchange.getResponseBody();
+            for (int offset = 0; offset < length; offset += chunkSize) {
+                out.write(body, offset, Math.min(chunkSize, length - offset));
+                out.flush();
+                if (bytesPerSecond > 0) {
+                    sleep(1000 / CHUNKS_PER_SECOND);
+                }
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static String createReadme(int ruleCount) {
+        StringBuilder sb = new StringBuilder("# Scan tool\n\nFake README served by the test Central.\n\n## Rules\n\n");
+        for (int i = 1; i <= ruleCount; i++) {
+            sb.append("### ballerina-").append(i).append(" - Rule ").append(i).append("\n\n")
+                    .append("Description of rule ").append(i).append(".\n\n");
+        }
+        sb.append("## Contributing\n\nSee the contribution guidelines.\n");
+        return sb.toString();
+    }
+
+    static byte[] createBala(int ruleCount) throws IOException {
+        JsonArray ruleInfo = new JsonArray();
+        for (int i = 1; i <= ruleCount; i++) {
+            JsonObject rule = new JsonObject();
+            rule.addProperty("title", "Rule " + i);
+            rule.addProperty("type", "code_smell");
+            rule.addProperty("status", "ready");
+            rule.add("tags", new JsonArray());
+            rule.addProperty("defaultSeverity", "major");
+            rule.addProperty("sqKey", "ballerina-" + i);
+            ruleInfo.add(rule);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.putNextEntry(new ZipEntry("bala.json"));
+            zipOut.write("{}".getBytes(StandardCharsets.UTF_8));
+            zipOut.closeEntry();
+            zipOut.putNextEntry(new ZipEntry("resources/rule-info.json"));
+            zipOut.write(ruleInfo.toString().getBytes(StandardCharsets.UTF_8));
+            zipOut.closeEntry();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import io.ballerina.sonar.SonarBallerinaException;
+import io.ballerina.sonar.internal.FakeCentralServer.Corruption;
+import org.sonar.api.config.Configuration;
+import org.sonar.api.config.internal.MapSettings;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@code RuleGeneratorTest} contains the tests for loading rules with the {@link RuleGenerator} from a
+ * {@link FakeCentralServer}.
+ *
+ * @since 0.2.0
+ */
+public class RuleGeneratorTest {
+    private static final int RULE_COUNT = 500;
+    private static final long LOAD_TIME_BUDGET_MILLIS = Long.getLong("ruleLoading.timeBudgetMillis", 10_000);
+
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("rule-generator");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test loading the rules from Central and writing them to the cache")
+    void testLoadRules() throws IOException, SonarBallerinaException {
+        Path ruleCachePath = ruleCachePath();
+        try (FakeCentralServer central = new FakeCentralServer(RULE_COUNT)) {
+            long start = System.nanoTime();
+            List<RuleMetadata> rules = new RuleGenerator(ruleCachePath).loadRules(configuration(central));
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            Assert.assertEquals(rules.size(), RULE_COUNT);
+            Assert.assertTrue(Files.isRegularFile(ruleCachePath));
+            Assert.assertEquals(central.metadataRequests(), 1);
+            Assert.assertEquals(central.balaRequests(), 1);
+            Assert.assertTrue(elapsedMillis <= LOAD_TIME_BUDGET_MILLIS, "Loading " + RULE_COUNT + " rules took "
+                    + elapsedMillis + " ms, exceeding the budget of " + LOAD_TIME_BUDGET_MILLIS + " ms");
+        }
+    }
+
+    @Test(description = "Test that the rule loading time includes the latency and the transfer of the bala")
+    void testLoadRulesWithLatencyAndBandwidth() throws IOException, SonarBallerinaException {
+        try (FakeCentralServer central = new FakeCentralServer(RULE_COUNT)) {
+            Duration latency = Duration.ofMillis(200);
+            // The bala takes about a second to transfer
+            central.latency(latency).bandwidth(central.balaSize());
+            long start = System.nanoTime();
+            List<RuleMetadata> rules = new RuleGenerator(ruleCachePath()).loadRules(configuration(central));
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            Assert.assertEquals(rules.size(), RULE_COUNT);
+            Assert.assertTrue(elapsedMillis >= 2 * latency.toMillis() + 800, "Loading the rules took only "
+                    + elapsedMillis + " ms");
+        }
+    }
+
+    @DataProvider
+    Object[][] faults() {
+        return new Object[][]{
+                {503, 200, Corruption.NONE},
+                {200, 404, Corruption.NONE},
+                {200, 200, Corruption.GARBAGE},
+                {200, 200, Corruption.TRUNCATED}
+        };
+    }
+
+    @Test(description = "Test that the cached rules are used when Central fails", dataProvider = "faults")
+    void testFallbackToCache(int metadataStatus, int balaStatus, Corruption corruption)
+            throws IOException, SonarBallerinaException {
+        Path ruleCachePath = ruleCachePath();
+        try (FakeCentralServer central = new FakeCentralServer(RULE_COUNT)) {
+            new RuleGenerator(ruleCachePath).loadRules(configuration(central));
+
+            central.metadataStatus(metadataStatus).balaStatus(balaStatus).corruption(corruption);
+            List<RuleMetadata> rules = new RuleGenerator(ruleCachePath).loadRules(configuration(central));
+            Assert.assertEquals(rules.size(), RULE_COUNT);
+            Assert.assertEquals(central.metadataRequests(), 2);
+        }
+    }
+
+    @Test(description = "Test that a slow Central times out and the cached rules are used")
+    void testFallbackToCacheOnTimeout() throws IOException, SonarBallerinaException {
+        Path ruleCachePath = ruleCachePath();
+        try (FakeCentralServer central = new FakeCentralServer(RULE_COUNT)) {
+            new RuleGenerator(ruleCachePath).loadRules(configuration(central));
+
+            central.latency(Duration.ofSeconds(5));
+            MapSettings settings = new MapSettings();
+            settings.setProperty(ScanToolSource.SCAN_TOOL_URL_KEY, central.metadataUri().toString());
+            settings.setProperty(ScanToolSource.SCAN_TOOL_TIMEOUT_KEY, 1);
+            long start = System.nanoTime();
+            List<RuleMetadata> rules = new RuleGenerator(ruleCachePath).loadRules(settings.asConfig());
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            Assert.assertEquals(rules.size(), RULE_COUNT);
+            Assert.assertTrue(elapsedMillis < 5000, "Loading the rules took " + elapsedMillis + " ms");
+        }
+    }
+
+    @Test(description = "Test that a Central failure is reported when there are no cached rules",
+            expectedExceptions = SonarBallerinaException.class)
+    void testFailureWithoutCache() throws IOException, SonarBallerinaException {
+        try (FakeCentralServer central = new FakeCentralServer(RULE_COUNT)) {
+            central.corruption(Corruption.GARBAGE);
+            new RuleGenerator(ruleCachePath()).loadRules(configuration(central));
+        }
+    }
+
+    private Path ruleCachePath() {
+        return testDirectory.resolve("rule-cache.json");
+    }
+
+    private static Configuration configuration(FakeCentralServer central) {
+        MapSettings settings = new MapSettings();
+        settings.setProperty(ScanToolSource.SCAN_TOOL_URL_KEY, central.metadataUri().toString());
+        return settings.asConfig();
+    }
+}
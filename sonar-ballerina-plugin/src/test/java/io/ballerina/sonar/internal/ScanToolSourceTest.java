@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar.internal;
+
+import io.ballerina.sonar.SonarBallerinaException;
+import org.sonar.api.config.internal.MapSettings;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * {@code ScanToolSourceTest} contains the tests for the {@link ScanToolSource} implementations.
+ *
+ * @since 0.2.0
+ */
+public class ScanToolSourceTest {
+    private static final String METADATA =
+            "{\"readme\": \"# Scan tool\", \"balaURL\": \"https://localhost/scan.bala\"}";
+    private static final String RULE_INFO = "[]";
+
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("scan-tool-source");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test reading the scan tool from a file:// directory")
+    void testDirectoryScanToolSource() throws IOException, SonarBallerinaException {
+        Path directory = createScanToolDirectory();
+        MapSettings settings = new MapSettings();
+        settings.setProperty(ScanToolSource.SCAN_TOOL_URL_KEY, directory.toUri().toString());
+        ScanToolSource source = ScanToolSource.fromConfiguration(settings.asConfig());
+        Assert.assertTrue(source instanceof DirectoryScanToolSource);
+
+        ScanToolMetadata metadata = source.fetchMetadata();
+        Assert.assertEquals(metadata.getReadme(), "# Scan tool");
+        try (InputStream bala = source.openBala(metadata)) {
+            Assert.assertEquals(bala.readAllBytes(), Files.readAllBytes(directory.resolve("scan-tool.bala")));
+        }
+    }
+
+    @Test(description = "Test that the mirror stores the scan tool and serves it when the upstream is unavailable")
+    void testMirroredScanToolSource() throws IOException, SonarBallerinaException {
+        Path upstreamDirectory = createScanToolDirectory();
+        byte[] bala = Files.readAllBytes(upstreamDirectory.resolve("scan-tool.bala"));
+        Path mirrorDirectory = testDirectory.resolve("mirror");
+        MapSettings settings = new MapSettings();
+        settings.setProperty(ScanToolSource.SCAN_TOOL_URL_KEY, upstreamDirectory.toUri().toString());
+        settings.setProperty(ScanToolSource.SCAN_TOOL_MIRROR_PATH_KEY, mirrorDirectory.toString());
+        ScanToolSource source = ScanToolSource.fromConfiguration(settings.asConfig());
+        Assert.assertTrue(source instanceof MirroredScanToolSource);
+
+        ScanToolMetadata metadata = source.fetchMetadata();
+        Assert.assertEquals(metadata.getBalaURL(), "https://localhost/scan.bala");
+        Assert.assertTrue(Files.exists(mirrorDirectory.resolve("scan-tool-metadata.json")));
+        Assert.assertTrue(Files.exists(mirrorDirectory.resolve("scan-tool.bala")));
+
+        // The mirror is served when the upstream cannot be reached
+        Files.delete(upstreamDirectory.resolve("scan-tool-metadata.json"));
+        Files.delete(upstreamDirectory.resolve("scan-tool.bala"));
+        ScanToolSource mirroredSource = ScanToolSource.fromConfiguration(settings.asConfig());
+        ScanToolMetadata mirroredMetadata = mirroredSource.fetchMetadata();
+        Assert.assertEquals(mirroredMetadata.getReadme(), "# Scan tool");
+        try (InputStream mirroredBala = mirroredSource.openBala(mirroredMetadata)) {
+            Assert.assertEquals(mirroredBala.readAllBytes(), bala);
+        }
+    }
+
+    @Test(description = "Test that the mirror is refreshed when the upstream publishes a new scan tool version")
+    void testMirroredScanToolSourceRefresh() throws IOException, SonarBallerinaException {
+        Path upstreamDirectory = createScanToolDirectory();
+        Path mirrorDirectory = testDirectory.resolve("mirror");
+        MapSettings settings = new MapSettings();
+        settings.setProperty(ScanToolSource.SCAN_TOOL_URL_KEY, upstreamDirectory.toUri().toString());
+        settings.setProperty(ScanToolSource.SCAN_TOOL_MIRROR_PATH_KEY, mirrorDirectory.toString());
+        ScanToolSource source = ScanToolSource.fromConfiguration(settings.asConfig());
+        source.fetchMetadata();
+
+        Files.writeString(upstreamDirectory.resolve("scan-tool-metadata.json"),
+                METADATA.replace("scan.bala", "scan-2.bala"), StandardCharsets.UTF_8);
+        Files.writeString(upstreamDirectory.resolve("scan-tool.bala"), "new version", StandardCharsets.UTF_8);
+        ScanToolMetadata metadata = source.fetchMetadata();
+        Assert.assertEquals(metadata.getBalaURL(), "https://localhost/scan-2.bala");
+        Assert.assertEquals(Files.readString(mirrorDirectory.resolve("scan-tool.bala")), "new version");
+        Assert.assertTrue(Files.readString(mirrorDirectory.resolve("scan-tool-metadata.json"))
+                .contains("scan-2.bala"));
+        try (InputStream bala = source.openBala(metadata)) {
+            Assert.assertEquals(new String(bala.readAllBytes(), StandardCharsets.UTF_8), "new version");
+        }
+    }
+
+    private Path createScanToolDirectory() throws IOException {
+        Path directory = Files.createDirectory(testDirectory.resolve("upstream"));
+        Files.writeString(directory.resolve("scan-tool-metadata.json"), METADATA, StandardCharsets.UTF_8);
+        try (OutputStream out = Files.newOutputStream(directory.resolve("scan-tool.bala"));
+             ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.putNextEntry(new ZipEntry("resources/rule-info.json"));
+            zipOut.write(RULE_INFO.getBytes(StandardCharsets.UTF_8));
+            zipOut.closeEntry();
+        }
+        return directory;
+    }
+}
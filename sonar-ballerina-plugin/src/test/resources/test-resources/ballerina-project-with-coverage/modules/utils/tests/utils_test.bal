@@ -0,0 +1,31 @@
+// Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {dataProvider: additionData}
+function testAdd(int a, int b, int expected) {
+    test:assertEquals(add(a, b), expected);
+}
+
+function additionData() returns [int, int, int][] {
+    return [[1, 2, 3], [2, 2, 4]];
+}
+
+@test:Config {}
+isolated function testSubtract() {
+    test:assertEquals(subtract(3, 1), 1);
+}
@@ -0,0 +1,16 @@
+// Comment lines are counted, but not as lines of code
+// including the lines of the file header
+
+import ballerina/io;
+
+# Prints a greeting.
+#
+# + name - name to greet
+# + return - an error if the greeting cannot be printed
+public function greet(string name) returns error? {
+    string url = "https://ballerina.io/#learn"; // trailing comment
+    string greeting = string `Hello,
+// not a comment
+${name}`;
+    io:println(greeting, " from ", url);
+}
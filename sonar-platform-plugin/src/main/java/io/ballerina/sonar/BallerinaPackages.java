@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.ballerina.sonar.Constants.BALLERINA_TOML;
+import static io.ballerina.sonar.Constants.WORKSPACE_PACKAGES;
+import static io.ballerina.sonar.Constants.WORKSPACE_TABLE;
+
+/**
+ * Finds the Ballerina packages scanned from a directory: the packages listed by the {@code [workspace]} table of
+ * its Ballerina.toml, the directory itself when it is a package, and none when it holds standalone files.
+ *
+ * @since 0.2.0
+ */
+final class BallerinaPackages {
+    private static final Pattern QUOTED_STRING = Pattern.compile("\"([^\"]*)\"");
+
+    private BallerinaPackages() {
+    }
+
+    /**
+     * Returns the root directories of the packages scanned from a directory.
+     *
+     * @param directory directory the scan is run from
+     * @return the package root directories, empty for a directory of standalone files
+     * @throws IOException if the Ballerina.toml of the directory cannot be read
+     */
+    static List<Path> packageRoots(Path directory) throws IOException {
+        Path ballerinaToml = directory.resolve(BALLERINA_TOML);
+        if (!Files.isRegularFile(ballerinaToml)) {
+            return List.of();
+        }
+        List<String> workspacePackages = workspacePackages(Files.readAllLines(ballerinaToml, StandardCharsets.UTF_8));
+        if (workspacePackages.isEmpty()) {
+            return List.of(directory);
+        }
+        List<Path> packageRoots = new ArrayList<>();
+        for (String workspacePackage : workspacePackages) {
+            packageRoots.add(directory.resolve(workspacePackage).normalize());
+        }
+        return packageRoots;
+    }
+
+    /**
+     * Returns the entries of the {@code packages} array of the {@code [workspace]} table, which may span lines.
+     */
+    private static List<String> workspacePackages(List<String> lines) {
+        List<String> packages = new ArrayList<>();
+        boolean inWorkspace = false;
+        boolean inPackages = false;
+        for (String rawLine : lines) {
+            String line = rawLine.strip();
+            if (!inPackages && line.startsWith("[")) {
+                inWorkspace = line.equals(WORKSPACE_TABLE);
+                continue;
+            }
+            if (!inWorkspace) {
+                continue;
+            }
+            if (!inPackages) {
+                int equals = line.indexOf('=');
+                if (equals < 0 || !line.substring(0, equals).strip().equals(WORKSPACE_PACKAGES)) {
+                    continue;
+                }
+                line = line.substring(equals + 1);
+                inPackages = true;
+            }
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            Matcher matcher = QUOTED_STRING.matcher(line);
+            while (matcher.find()) {
+                packages.add(matcher.group(1));
+            }
+            if (line.contains("]")) {
+                inPackages = false;
+            }
+        }
+        return packages;
+    }
+}
@@ -28,6 +28,23 @@ public final class Constants {
 
     static final String PLATFORM_NAME = "sonarqube";
     static final String ISSUES_FILE_PATH = "ballerina-static-code-analysis-results.json";
+    static final String ISSUES_DIRECTORY_PATH = "ballerina-static-code-analysis-results";
+    static final String REPORT_SHARD_SIZE = "reportShardSize";
+    static final String SONAR_PROJECT_PROPERTIES_PATH = "sonarProjectPropertiesPath";
+    static final String OUTPUT_FORMATS = "outputFormats";
+    static final String GENERIC_ISSUES_FILE_PATH = "ballerina-generic-issues.json";
+    static final String SARIF_FILE_PATH = "ballerina-scan-results.sarif";
+    static final String BUILT_IN_SOURCE = "BUILT_IN";
+    static final String BUG_RULE_KIND = "BUG";
+    static final String VULNERABILITY_RULE_KIND = "VULNERABILITY";
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+    static final String SHARD_FILE_NAME_FORMAT = "shard-%05d.json";
+    static final String SHARD_FILE_GLOB = "shard-*.json";
+    static final int MANIFEST_VERSION = 1;
+    static final String MANIFEST_VERSION_PROPERTY = "version";
+    static final String MANIFEST_ISSUE_COUNT = "issueCount";
+    static final String MANIFEST_SHARDS = "shards";
+    static final String MANIFEST_SHARD_PATH = "path";
     static final String START_LINE = "startLine";
     static final String START_LINE_OFFSET = "startLineOffset";
     static final String END_LINE = "endLine";
@@ -38,4 +55,20 @@ public final class Constants {
     static final String SOURCE = "source";
     static final String FILE_NAME = "fileName";
     static final String FILE_PATH = "filePath";
+    static final String SYNTAX_DATA_FILE_PATH = "ballerina-syntax-data.json";
+    static final String HIGHLIGHTING = "highlighting";
+    static final String SYMBOLS = "symbols";
+    static final String BUILD_TARGET_DIRECTORY = "target";
+    static final String BALLERINA_FILE_EXTENSION = ".bal";
+    static final String BALLERINA_TOML = "Ballerina.toml";
+    static final String WORKSPACE_TABLE = "[workspace]";
+    static final String WORKSPACE_PACKAGES = "packages";
+
+    // Highlighting types, named after the Sonar TypeOfText CSS classes
+    static final String HIGHLIGHT_ANNOTATION = "a";
+    static final String HIGHLIGHT_CONSTANT = "c";
+    static final String HIGHLIGHT_COMMENT = "cd";
+    static final String HIGHLIGHT_STRUCTURED_COMMENT = "j";
+    static final String HIGHLIGHT_KEYWORD = "k";
+    static final String HIGHLIGHT_STRING = "s";
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.ballerina.sonar.Constants.BUG_RULE_KIND;
+import static io.ballerina.sonar.Constants.BUILT_IN_SOURCE;
+import static io.ballerina.sonar.Constants.VULNERABILITY_RULE_KIND;
+
+/**
+ * Writes issues in the SonarQube generic issue import format, read through the {@code sonar.externalIssuesReportPaths}
+ * analysis property. Issues are given the engine IDs and types the Ballerina sensor reports them with.
+ *
+ * @since 0.2.0
+ */
+final class GenericIssueWriter implements IssueFormatWriter {
+    private static final String BUILT_IN_ENGINE_ID = "ballerina";
+    private static final String EXTERNAL_ENGINE_ID = "ballerina_external_analyzer";
+    private static final String SEVERITY = "MAJOR";
+    private static final String CODE_SMELL = "CODE_SMELL";
+
+    private final JsonWriter jsonWriter;
+
+    private GenericIssueWriter(JsonWriter jsonWriter) {
+        this.jsonWriter = jsonWriter;
+    }
+
+    static GenericIssueWriter open(Path destination) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(Files.newBufferedWriter(destination, StandardCharsets.UTF_8));
+        try {
+            jsonWriter.beginObject().name("issues").beginArray();
+        } catch (IOException e) {
+            jsonWriter.close();
+            throw e;
+        }
+        return new GenericIssueWriter(jsonWriter);
+    }
+
+    @Override
+    public void write(IssueRecord issue) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("engineId").value(BUILT_IN_SOURCE.equals(issue.source()) ? BUILT_IN_ENGINE_ID
+                : EXTERNAL_ENGINE_ID);
+        jsonWriter.name("ruleId").value(issue.ruleId());
+        jsonWriter.name("severity").value(SEVERITY);
+        jsonWriter.name("type").value(type(issue.ruleKind()));
+        jsonWriter.name("primaryLocation").beginObject();
+        jsonWriter.name("message").value(issue.message());
+        jsonWriter.name("filePath").value(issue.filePath());
+        jsonWriter.name("textRange").beginObject();
+        jsonWriter.name("startLine").value(issue.startLine() + 1);
+        jsonWriter.name("endLine").value(issue.endLine() + 1);
+        // An empty range is rejected by the import, the issue is then reported on its lines
+        if (issue.startLine() != issue.endLine() || issue.startLineOffset() != issue.endLineOffset()) {
+            jsonWriter.name("startColumn").value(issue.startLineOffset());
+            jsonWriter.name("endColumn").value(issue.endLineOffset());
+        }
+        jsonWriter.endObject();
+        jsonWriter.endObject();
+        jsonWriter.endObject();
+    }
+
+    private static String type(String ruleKind) {
+        return switch (ruleKind) {
+            case BUG_RULE_KIND, VULNERABILITY_RULE_KIND -> ruleKind;
+            default -> CODE_SMELL;
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (jsonWriter) {
+            jsonWriter.endArray().endObject();
+        }
+    }
+}
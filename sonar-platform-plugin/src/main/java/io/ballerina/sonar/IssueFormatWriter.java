@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes issues to a file of one output format, one issue at a time, so that a single pass over the issues of a
+ * scan feeds every requested format. Closing the writer completes the file.
+ *
+ * @since 0.2.0
+ */
+interface IssueFormatWriter extends Closeable {
+
+    /**
+     * Writes the next issue.
+     *
+     * @param issue issue to write
+     * @throws IOException if the issue cannot be written
+     */
+    void write(IssueRecord issue) throws IOException;
+}
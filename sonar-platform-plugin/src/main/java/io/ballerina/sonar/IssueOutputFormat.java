@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static io.ballerina.sonar.Constants.GENERIC_ISSUES_FILE_PATH;
+import static io.ballerina.sonar.Constants.ISSUES_FILE_PATH;
+import static io.ballerina.sonar.Constants.SARIF_FILE_PATH;
+
+/**
+ * Represents the formats the issues of a scan can be written in, selected with the {@code outputFormats} platform
+ * argument.
+ *
+ * @since 0.2.0
+ */
+enum IssueOutputFormat {
+    /**
+     * The analysis results report read by the Ballerina sensor.
+     */
+    REPORT("sonarqube", ISSUES_FILE_PATH),
+    /**
+     * The SonarQube generic issue import format.
+     */
+    GENERIC("generic", GENERIC_ISSUES_FILE_PATH),
+    /**
+     * The SARIF 2.1.0 format read by code scanning dashboards.
+     */
+    SARIF("sarif", SARIF_FILE_PATH);
+
+    private final String formatName;
+    private final String fileName;
+
+    IssueOutputFormat(String formatName, String fileName) {
+        this.formatName = formatName;
+        this.fileName = fileName;
+    }
+
+    String formatName() {
+        return formatName;
+    }
+
+    /**
+     * Returns the formats of an {@code outputFormats} platform argument, a comma separated list of format names.
+     * The analysis results report is always included, as the scanner reads it.
+     *
+     * @param outputFormats  the platform argument, or {@code null} if it is not given
+     * @param unknownFormats accepts the names that are not format names
+     * @return the formats to write
+     */
+    static Set<IssueOutputFormat> parse(String outputFormats, Consumer<String> unknownFormats) {
+        Set<IssueOutputFormat> formats = EnumSet.of(REPORT);
+        if (outputFormats == null) {
+            return formats;
+        }
+        for (String formatName : outputFormats.split(",")) {
+            if (formatName.isBlank()) {
+                continue;
+            }
+            Optional<IssueOutputFormat> format = fromName(formatName);
+            if (format.isPresent()) {
+                formats.add(format.get());
+            } else {
+                unknownFormats.accept(formatName.trim());
+            }
+        }
+        return formats;
+    }
+
+    static Optional<IssueOutputFormat> fromName(String formatName) {
+        String name = formatName.trim().toLowerCase(Locale.ROOT);
+        for (IssueOutputFormat format : values()) {
+            if (format.formatName.equals(name)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    IssueFormatWriter open(Path directory) throws IOException {
+        Path destination = directory.resolve(fileName);
+        return switch (this) {
+            case REPORT -> IssueReportWriter.open(destination);
+            case GENERIC -> GenericIssueWriter.open(destination);
+            case SARIF -> SarifIssueWriter.open(destination, directory);
+        };
+    }
+
+    /**
+     * Writes issues in several formats in a single pass over them.
+     *
+     * @param issues    issues ordered by file path
+     * @param formats   formats to write
+     * @param directory directory of the written files
+     * @throws IOException if a file cannot be written
+     */
+    static void writeAll(List<IssueRecord> issues, Set<IssueOutputFormat> formats, Path directory)
+            throws IOException {
+        List<IssueFormatWriter> writers = new ArrayList<>();
+        try {
+            for (IssueOutputFormat format : formats) {
+                writers.add(format.open(directory));
+            }
+            for (IssueRecord issue : issues) {
+                for (IssueFormatWriter writer : writers) {
+                    writer.write(issue);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            closeAll(writers, e);
+            throw e;
+        }
+        closeAll(writers, null);
+    }
+
+    /**
+     * Closes every writer. Close failures are added to the failure that interrupted the writing, if any, so that
+     * it is the one thrown, e.g. a writer left in the middle of an issue cannot be closed and throws an
+     * {@link IllegalStateException}.
+     */
+    private static void closeAll(List<IssueFormatWriter> writers, Exception writeFailure) throws IOException {
+        Exception failure = writeFailure;
+        for (IssueFormatWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException | RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure == writeFailure) {
+            return;
+        }
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        throw (RuntimeException) failure;
+    }
+}
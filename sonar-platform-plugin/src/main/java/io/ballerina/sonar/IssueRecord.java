@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.internal.IssueImpl;
+import io.ballerina.tools.text.LineRange;
+
+/**
+ * Represents the fields of a scan tool {@link Issue} that are written to the analysis results report.
+ *
+ * @param startLine       zero-based start line of the issue
+ * @param startLineOffset start line offset of the issue
+ * @param endLine         zero-based end line of the issue
+ * @param endLineOffset   end line offset of the issue
+ * @param ruleId          the scan tool rule ID
+ * @param message         the rule description
+ * @param ruleKind        the kind of the rule
+ * @param source          the source of the issue, either built-in or external
+ * @param fileName        the file name relative to the project
+ * @param filePath        the absolute file path
+ * @since 0.2.0
+ */
+record IssueRecord(int startLine, int startLineOffset, int endLine, int endLineOffset, String ruleId,
+                   String message, String ruleKind, String source, String fileName, String filePath) {
+
+    static IssueRecord from(Issue issue) {
+        IssueImpl reportedIssue = (IssueImpl) issue;
+        LineRange lineRange = reportedIssue.location().lineRange();
+        return new IssueRecord(lineRange.startLine().line(),
+                lineRange.startLine().offset(),
+                lineRange.endLine().line(),
+                lineRange.endLine().offset(),
+                reportedIssue.rule().id(),
+                reportedIssue.rule().description(),
+                reportedIssue.rule().kind().toString(),
+                reportedIssue.source().toString(),
+                reportedIssue.fileName(),
+                reportedIssue.filePath());
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.ballerina.sonar.Constants.END_LINE;
+import static io.ballerina.sonar.Constants.END_LINE_OFFSET;
+import static io.ballerina.sonar.Constants.FILE_NAME;
+import static io.ballerina.sonar.Constants.FILE_PATH;
+import static io.ballerina.sonar.Constants.MANIFEST_FILE_NAME;
+import static io.ballerina.sonar.Constants.MANIFEST_ISSUE_COUNT;
+import static io.ballerina.sonar.Constants.MANIFEST_SHARDS;
+import static io.ballerina.sonar.Constants.MANIFEST_SHARD_PATH;
+import static io.ballerina.sonar.Constants.MANIFEST_VERSION;
+import static io.ballerina.sonar.Constants.MANIFEST_VERSION_PROPERTY;
+import static io.ballerina.sonar.Constants.MESSAGE;
+import static io.ballerina.sonar.Constants.RULE_ID;
+import static io.ballerina.sonar.Constants.RULE_KIND;
+import static io.ballerina.sonar.Constants.SHARD_FILE_GLOB;
+import static io.ballerina.sonar.Constants.SHARD_FILE_NAME_FORMAT;
+import static io.ballerina.sonar.Constants.SOURCE;
+import static io.ballerina.sonar.Constants.START_LINE;
+import static io.ballerina.sonar.Constants.START_LINE_OFFSET;
+
+/**
+ * Writes the analysis results report consumed by the Ballerina sensor.
+ * Issues are written ordered by file path, keeping the order of the issues of a file, so that the sensor can merge
+ * the reports of several scans while streaming them.
+ *
+ * @since 0.2.0
+ */
+final class IssueReportWriter {
+    private IssueReportWriter() {
+    }
+
+    static void write(List<IssueRecord> issues, Path destination) throws IOException {
+        try (IssueFormatWriter writer = open(destination)) {
+            for (IssueRecord issue : sortedByFilePath(issues)) {
+                writer.write(issue);
+            }
+        }
+    }
+
+    /**
+     * Opens a single file report to be written one issue at a time, for the issues to be written along with the
+     * other output formats. Issues must be given ordered by file path.
+     *
+     * @param destination path of the report
+     * @return the report writer
+     * @throws IOException if the report cannot be created
+     */
+    static IssueFormatWriter open(Path destination) throws IOException {
+        return new ReportWriter(destination);
+    }
+
+    /**
+     * Writes the report as a directory of shards of at most {@code shardSize} issues and a manifest listing them.
+     * The shards are written in parallel and the manifest is written last, once every shard is complete. Shards
+     * hold consecutive runs of the issues, which must be given ordered by file path, so reading them in manifest
+     * order yields the same issues as the single file report.
+     *
+     * @param issues    issues of the scan ordered by file path
+     * @param directory directory of the report, created if needed and cleared of a previous report
+     * @param shardSize maximum number of issues per shard
+     * @throws IOException if the report cannot be written
+     */
+    static void writeShards(List<IssueRecord> issues, Path directory, int shardSize) throws IOException {
+        Files.createDirectories(directory);
+        clearShards(directory);
+        int shardCount = (issues.size() + shardSize - 1) / shardSize;
+        try {
+            IntStream.range(0, shardCount).parallel().forEach(shard -> {
+                List<IssueRecord> shardIssues = issues.subList(shard * shardSize,
+                        Math.min(issues.size(), (shard + 1) * shardSize));
+                JsonArray issuesAsJson = new JsonArray();
+                shardIssues.forEach(issue -> issuesAsJson.add(toJson(issue)));
+                try {
+                    writeJson(issuesAsJson, directory.resolve(shardFileName(shard)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        JsonArray shards = new JsonArray();
+        for (int shard = 0; shard < shardCount; shard++) {
+            JsonObject shardObject = new JsonObject();
+            shardObject.addProperty(MANIFEST_SHARD_PATH, shardFileName(shard));
+            shardObject.addProperty(MANIFEST_ISSUE_COUNT,
+                    Math.min(shardSize, issues.size() - shard * shardSize));
+            shards.add(shardObject);
+        }
+        JsonObject manifest = new JsonObject();
+        manifest.addProperty(MANIFEST_VERSION_PROPERTY, MANIFEST_VERSION);
+        manifest.addProperty(MANIFEST_ISSUE_COUNT, issues.size());
+        manifest.add(MANIFEST_SHARDS, shards);
+        writeJson(manifest, directory.resolve(MANIFEST_FILE_NAME));
+    }
+
+    static List<IssueRecord> sortedByFilePath(List<IssueRecord> issues) {
+        return issues.stream().sorted(Comparator.comparing(IssueRecord::filePath)).toList();
+    }
+
+    private static String shardFileName(int shard) {
+        return String.format(SHARD_FILE_NAME_FORMAT, shard);
+    }
+
+    /**
+     * Deletes the manifest first, so that a report being overwritten is never read with a mix of old and new shards.
+     */
+    private static void clearShards(Path directory) throws IOException {
+        Files.deleteIfExists(directory.resolve(MANIFEST_FILE_NAME));
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, SHARD_FILE_GLOB)) {
+            for (Path shard : shards) {
+                Files.delete(shard);
+            }
+        }
+    }
+
+    private static JsonObject toJson(IssueRecord issue) {
+        JsonObject issueObject = new JsonObject();
+        issueObject.addProperty(START_LINE, issue.startLine());
+        issueObject.addProperty(START_LINE_OFFSET, issue.startLineOffset());
+        issueObject.addProperty(END_LINE, issue.endLine());
+        issueObject.addProperty(END_LINE_OFFSET, issue.endLineOffset());
+        issueObject.addProperty(RULE_ID, issue.ruleId());
+        issueObject.addProperty(MESSAGE, issue.message());
+        issueObject.addProperty(RULE_KIND, issue.ruleKind());
+        issueObject.addProperty(SOURCE, issue.source());
+        issueObject.addProperty(FILE_NAME, issue.fileName());
+        issueObject.addProperty(FILE_PATH, issue.filePath());
+        return issueObject;
+    }
+
+    private static void writeJson(JsonElement json, Path destination) throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        String jsonOutput = gson.toJson(json);
+        try (FileWriter writer = new FileWriter(destination.toFile(), StandardCharsets.UTF_8)) {
+            writer.write(jsonOutput);
+        }
+    }
+
+    private static final class ReportWriter implements IssueFormatWriter {
+        private final Gson gson = new GsonBuilder().create();
+        private final JsonWriter jsonWriter;
+
+        private ReportWriter(Path destination) throws IOException {
+            jsonWriter = new JsonWriter(Files.newBufferedWriter(destination, StandardCharsets.UTF_8));
+            jsonWriter.setIndent("  ");
+            try {
+                jsonWriter.beginArray();
+            } catch (IOException e) {
+                jsonWriter.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(IssueRecord issue) throws IOException {
+            gson.toJson(toJson(issue), jsonWriter);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (jsonWriter) {
+                jsonWriter.endArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.sonar.Constants.BUG_RULE_KIND;
+import static io.ballerina.sonar.Constants.VULNERABILITY_RULE_KIND;
+
+/**
+ * Writes issues as a SARIF 2.1.0 log of a single run. Results are streamed as they are given and the rules they
+ * refer to are written once, after the results, as the rules of a scan are only known once all its issues are seen.
+ * Columns are one-based in SARIF, unlike the offsets of the scan tool. Files are located relative to the
+ * {@code %SRCROOT%} base URI, the directory of the scan, so that the log can be read on another machine.
+ *
+ * @since 0.2.0
+ */
+final class SarifIssueWriter implements IssueFormatWriter {
+    private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    private static final String SARIF_VERSION = "2.1.0";
+    private static final String TOOL_NAME = "Ballerina Scan";
+    private static final String ERROR_LEVEL = "error";
+    private static final String WARNING_LEVEL = "warning";
+    private static final String SOURCE_ROOT_BASE_ID = "%SRCROOT%";
+
+    private final JsonWriter jsonWriter;
+    private final Path baseDirectory;
+    private final Map<String, String> ruleDescriptions = new LinkedHashMap<>();
+
+    private SarifIssueWriter(JsonWriter jsonWriter, Path baseDirectory) {
+        this.jsonWriter = jsonWriter;
+        this.baseDirectory = baseDirectory;
+    }
+
+    /**
+     * Opens a SARIF log.
+     *
+     * @param destination   path of the log
+     * @param baseDirectory directory the file locations are relative to
+     * @return the writer of the log
+     * @throws IOException if the log cannot be written
+     */
+    static SarifIssueWriter open(Path destination, Path baseDirectory) throws IOException {
+        Path absoluteBaseDirectory = baseDirectory.toAbsolutePath().normalize();
+        JsonWriter jsonWriter = new JsonWriter(Files.newBufferedWriter(destination, StandardCharsets.UTF_8));
+        try {
+            jsonWriter.beginObject();
+            jsonWriter.name("$schema").value(SARIF_SCHEMA);
+            jsonWriter.name("version").value(SARIF_VERSION);
+            jsonWriter.name("runs").beginArray().beginObject();
+            jsonWriter.name("originalUriBaseIds").beginObject()
+                    .name(SOURCE_ROOT_BASE_ID).beginObject()
+                    .name("uri").value(absoluteBaseDirectory.toUri().toString())
+                    .endObject()
+                    .endObject();
+            jsonWriter.name("results").beginArray();
+        } catch (IOException e) {
+            jsonWriter.close();
+            throw e;
+        }
+        return new SarifIssueWriter(jsonWriter, absoluteBaseDirectory);
+    }
+
+    @Override
+    public void write(IssueRecord issue) throws IOException {
+        ruleDescriptions.putIfAbsent(issue.ruleId(), issue.message());
+        jsonWriter.beginObject();
+        jsonWriter.name("ruleId").value(issue.ruleId());
+        jsonWriter.name("level").value(level(issue.ruleKind()));
+        jsonWriter.name("message").beginObject().name("text").value(issue.message()).endObject();
+        jsonWriter.name("locations").beginArray().beginObject();
+        jsonWriter.name("physicalLocation").beginObject();
+        writeArtifactLocation(Path.of(issue.filePath()));
+        jsonWriter.name("region").beginObject();
+        jsonWriter.name("startLine").value(issue.startLine() + 1);
+        jsonWriter.name("startColumn").value(issue.startLineOffset() + 1);
+        jsonWriter.name("endLine").value(issue.endLine() + 1);
+        jsonWriter.name("endColumn").value(issue.endLineOffset() + 1);
+        jsonWriter.endObject();
+        jsonWriter.endObject();
+        jsonWriter.endObject().endArray();
+        jsonWriter.endObject();
+    }
+
+    /**
+     * Writes the location of a file, relative to the base directory when the file is in it.
+     */
+    private void writeArtifactLocation(Path file) throws IOException {
+        Path absoluteFile = baseDirectory.resolve(file).normalize();
+        jsonWriter.name("artifactLocation").beginObject();
+        if (absoluteFile.startsWith(baseDirectory)) {
+            String relativePath = baseDirectory.relativize(absoluteFile).toString().replace(File.separatorChar, '/');
+            try {
+                jsonWriter.name("uri").value(new URI(null, null, relativePath, null).toASCIIString());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid file path " + file, e);
+            }
+            jsonWriter.name("uriBaseId").value(SOURCE_ROOT_BASE_ID);
+        } else {
+            jsonWriter.name("uri").value(absoluteFile.toUri().toString());
+        }
+        jsonWriter.endObject();
+    }
+
+    private static String level(String ruleKind) {
+        return switch (ruleKind) {
+            case BUG_RULE_KIND, VULNERABILITY_RULE_KIND -> ERROR_LEVEL;
+            default -> WARNING_LEVEL;
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (jsonWriter) {
+            jsonWriter.endArray();
+            jsonWriter.name("tool").beginObject().name("driver").beginObject();
+            jsonWriter.name("name").value(TOOL_NAME);
+            jsonWriter.name("rules").beginArray();
+            for (Map.Entry<String, String> rule : ruleDescriptions.entrySet()) {
+                jsonWriter.beginObject();
+                jsonWriter.name("id").value(rule.getKey());
+                jsonWriter.name("shortDescription").beginObject().name("text").value(rule.getValue()).endObject();
+                jsonWriter.endObject();
+            }
+            jsonWriter.endArray();
+            jsonWriter.endObject().endObject();
+            jsonWriter.endObject().endArray();
+            jsonWriter.endObject();
+        }
+    }
+}
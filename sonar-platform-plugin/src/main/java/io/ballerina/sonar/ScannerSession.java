@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Accumulates the issues of the scans run in one JVM, such as the scans of the packages of a workspace, and reports
+ * them together once the expected number of scans is done. The expected number is only an estimate, as a package
+ * can fail to build, so the session never drops issues: a scan beyond the expected ones reports every issue again,
+ * and the scans not reported when the scan tool finishes are flushed.
+ *
+ * @since 0.2.0
+ */
+final class ScannerSession {
+    private final int expectedScans;
+    private final Consumer<List<IssueRecord>> reporter;
+    private final List<IssueRecord> issues = new ArrayList<>();
+    private int scans;
+    private int reportedScans;
+
+    /**
+     * Creates a session.
+     *
+     * @param expectedScans number of scans to report together, at least one
+     * @param reporter      reports the issues of all the scans of the session so far
+     */
+    ScannerSession(int expectedScans, Consumer<List<IssueRecord>> reporter) {
+        if (expectedScans < 1) {
+            throw new IllegalArgumentException("A scanner session expects at least one scan, got " + expectedScans);
+        }
+        this.expectedScans = expectedScans;
+        this.reporter = reporter;
+    }
+
+    /**
+     * Adds the issues of a scan to the session, and reports the issues of the session from the last expected scan
+     * on. Failures of the reporter are thrown to the caller.
+     *
+     * @param scanIssues issues of the scan
+     * @return whether the session is reported
+     */
+    synchronized boolean add(List<IssueRecord> scanIssues) {
+        issues.addAll(scanIssues);
+        scans++;
+        if (scans < expectedScans) {
+            return false;
+        }
+        reportedScans = scans;
+        reporter.accept(List.copyOf(issues));
+        return true;
+    }
+
+    /**
+     * Returns the issues of the session if some scans are not reported yet, and marks them as reported.
+     *
+     * @return the issues of all the scans of the session, empty if every scan is reported
+     */
+    synchronized Optional<List<IssueRecord>> unreportedIssues() {
+        if (scans == reportedScans) {
+            return Optional.empty();
+        }
+        reportedScans = scans;
+        return Optional.of(List.copyOf(issues));
+    }
+
+    synchronized int scans() {
+        return scans;
+    }
+
+    int expectedScans() {
+        return expectedScans;
+    }
+}
@@ -17,37 +17,29 @@
 
 package io.ballerina.sonar;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
 import io.ballerina.scan.Issue;
 import io.ballerina.scan.PlatformPluginContext;
 import io.ballerina.scan.StaticCodeAnalysisPlatformPlugin;
-import io.ballerina.scan.internal.IssueImpl;
 import org.apache.commons.lang3.SystemUtils;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 
-import static io.ballerina.sonar.Constants.END_LINE;
-import static io.ballerina.sonar.Constants.END_LINE_OFFSET;
-import static io.ballerina.sonar.Constants.FILE_NAME;
-import static io.ballerina.sonar.Constants.FILE_PATH;
+import static io.ballerina.sonar.Constants.ISSUES_DIRECTORY_PATH;
 import static io.ballerina.sonar.Constants.ISSUES_FILE_PATH;
-import static io.ballerina.sonar.Constants.MESSAGE;
-import static io.ballerina.sonar.Constants.RULE_ID;
-import static io.ballerina.sonar.Constants.RULE_KIND;
-import static io.ballerina.sonar.Constants.SOURCE;
-import static io.ballerina.sonar.Constants.START_LINE;
+import static io.ballerina.sonar.Constants.OUTPUT_FORMATS;
 import static io.ballerina.sonar.Constants.PLATFORM_NAME;
-import static io.ballerina.sonar.Constants.START_LINE_OFFSET;
+import static io.ballerina.sonar.Constants.REPORT_SHARD_SIZE;
+import static io.ballerina.sonar.Constants.SONAR_PROJECT_PROPERTIES_PATH;
+import static io.ballerina.sonar.Constants.SYNTAX_DATA_FILE_PATH;
 
 /**
  * Represents the implementation of the {@link StaticCodeAnalysisPlatformPlugin} for reporting issues to SonarQube.
@@ -55,9 +47,26 @@ import static io.ballerina.sonar.Constants.START_LINE_OFFSET;
  * @since 0.1.0
  */
 public class SonarPlatformPlugin implements StaticCodeAnalysisPlatformPlugin {
+    private static final String SCANNER_EXCLUSIONS = "-Dsonar.exclusions=" +
+            "'" +
+            "**/*.java," +
+            "**/*.xml," +
+            "**/*.yaml," +
+            "**/*.go," +
+            "**/*.kt," +
+            "**/*.js," +
+            "**/*.html," +
+            "**/*.YAML" +
+            ",**/*.rb," +
+            "**/*.scala," +
+            "**/*.py" +
+            "'";
+
+    private static final String SHUTDOWN_HOOK_NAME = "sonar-scanner-session";
+
     private PlatformPluginContext platformPluginContext;
-    private final List<String> processBuilderArguments = new ArrayList<>();
-    private final ProcessBuilder processBuilder = new ProcessBuilder();
+    private ScannerSession scannerSession;
+    private BooleanSupplier terminationSignal;
     private final PrintStream outputStream = System.out;
 
     @Override
@@ -68,44 +77,91 @@ public class SonarPlatformPlugin implements StaticCodeAnalysisPlatformPlugin {
     @Override
     public void init(PlatformPluginContext platformPluginContext) {
         this.platformPluginContext = platformPluginContext;
-        if (SystemUtils.IS_OS_WINDOWS) {
-            processBuilderArguments.add("cmd");
-            processBuilderArguments.add("/c");
-        } else {
-            processBuilderArguments.add("sh");
-            processBuilderArguments.add("-c");
-        }
-        processBuilderArguments.add("sonar-scanner");
-        processBuilderArguments.add("-Dsonar.exclusions=" +
-                "'" +
-                "**/*.java," +
-                "**/*.xml," +
-                "**/*.yaml," +
-                "**/*.go," +
-                "**/*.kt," +
-                "**/*.js," +
-                "**/*.html," +
-                "**/*.YAML" +
-                ",**/*.rb," +
-                "**/*.scala," +
-                "**/*.py" +
-                "'");
+        Path userDir = Path.of(System.getProperty("user.dir"));
+        this.scannerSession = new ScannerSession(expectedScans(userDir), this::report);
+        this.terminationSignal = TerminationSignals.watch();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, SHUTDOWN_HOOK_NAME));
     }
 
+    /**
+     * Adds the issues of a scan to the scanner session. The issues of all the scans of the JVM, such as the scans
+     * of the packages of a workspace, are written to one report and sent by a single sonar-scanner run after the
+     * last scan.
+     */
     @Override
     public void onScan(List<Issue> issues) {
-        saveIssues(issues);
-        if (platformPluginContext.initiatedByPlatform()) {
+        List<IssueRecord> issueRecords = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            issueRecords.add(IssueRecord.from(issue));
+        }
+        int scans = scannerSession.scans() + 1;
+        if (scans > scannerSession.expectedScans()) {
+            outputStream.println("Warning: Scanned " + scans + " packages, more than the "
+                    + scannerSession.expectedScans() + " expected, reporting the issues of all of them again");
+        }
+        if (!scannerSession.add(issueRecords)) {
+            outputStream.println("Scanned " + scans + " of " + scannerSession.expectedScans()
+                    + " packages, reporting after the last one");
+        }
+    }
+
+    /**
+     * Writes the issues of the scans not reported when the JVM shuts down, which happens when fewer packages are
+     * scanned than expected, e.g. when a package fails to build. The scanner is not run from the shutdown hook, and
+     * nothing is written when the scan is interrupted by a signal, as its issues are partial.
+     */
+    private void flush() {
+        Optional<List<IssueRecord>> unreportedIssues = scannerSession.unreportedIssues();
+        if (unreportedIssues.isEmpty()) {
+            return;
+        }
+        if (terminationSignal.getAsBoolean()) {
+            outputStream.println("Warning: The scan was interrupted, the issues of " + scannerSession.scans()
+                    + " scanned package(s) are not reported");
             return;
         }
+        outputStream.println("Warning: Scanned " + scannerSession.scans() + " of the "
+                + scannerSession.expectedScans() + " expected packages");
+        try {
+            Path report = writeReport(unreportedIssues.get()).toAbsolutePath();
+            if (!platformPluginContext.initiatedByPlatform()) {
+                outputStream.println("The issues are written to " + report + " but not sent to SonarQube, run "
+                        + "sonar-scanner -DanalyzedResultsPath=" + report + " to send them");
+            }
+        } catch (RuntimeException ex) {
+            outputStream.println("Unable to write the issues: " + ex.getMessage());
+            outputStream.println("Reporting failed!");
+        }
+    }
 
-        processBuilderArguments.add("-DanalyzedResultsPath=" + Path.of(ISSUES_FILE_PATH).toAbsolutePath());
-        String sonarProjectPropertiesPath = platformPluginContext.platformArgs().get("sonarProjectPropertiesPath");
-        if (sonarProjectPropertiesPath != null) {
-            processBuilderArguments.add("-Dproject.settings=" + sonarProjectPropertiesPath);
+    /**
+     * Returns the number of scans run from a directory, one for each package of a workspace.
+     */
+    private int expectedScans(Path userDir) {
+        try {
+            return Math.max(1, BallerinaPackages.packageRoots(userDir).size());
+        } catch (IOException ex) {
+            outputStream.println("Unable to read the packages of " + userDir + ": " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    private void report(List<IssueRecord> issues) {
+        Path report = writeReport(issues);
+        if (platformPluginContext.initiatedByPlatform()) {
+            return;
         }
+        launchScanner(report);
+    }
+
+    private Path writeReport(List<IssueRecord> issues) {
+        Path report = saveIssues(issues);
+        saveSyntaxData(issues, report.resolveSibling(SYNTAX_DATA_FILE_PATH));
+        return report;
+    }
 
-        processBuilder.command(processBuilderArguments);
+    private void launchScanner(Path report) {
+        ProcessBuilder processBuilder = new ProcessBuilder(scannerCommand(report));
         processBuilder.inheritIO();
         try {
             Process process = processBuilder.start();
@@ -115,36 +171,97 @@ public class SonarPlatformPlugin implements StaticCodeAnalysisPlatformPlugin {
             } else {
                 outputStream.println("Reporting failed!");
             }
-        } catch (IOException | InterruptedException ex) {
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(ex);
         }
     }
 
-    private void saveIssues(List<Issue> issues) {
-        JsonArray issuesAsJson = new JsonArray();
-        issues.forEach(issue -> {
-            IssueImpl reportedIssue = (IssueImpl) issue;
-            JsonObject issueObject = new JsonObject();
-            issueObject.addProperty(START_LINE, reportedIssue.location().lineRange().startLine().line());
-            issueObject.addProperty(START_LINE_OFFSET, reportedIssue.location().lineRange().startLine().offset());
-            issueObject.addProperty(END_LINE, reportedIssue.location().lineRange().endLine().line());
-            issueObject.addProperty(END_LINE_OFFSET, reportedIssue.location().lineRange().endLine().offset());
-            issueObject.addProperty(RULE_ID, reportedIssue.rule().id());
-            issueObject.addProperty(MESSAGE, reportedIssue.rule().description());
-            issueObject.addProperty(RULE_KIND, reportedIssue.rule().kind().toString());
-            issueObject.addProperty(SOURCE, reportedIssue.source().toString());
-            issueObject.addProperty(FILE_NAME, reportedIssue.fileName());
-            issueObject.addProperty(FILE_PATH, reportedIssue.filePath());
-            issuesAsJson.add(issueObject);
-        });
-
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        String jsonOutput = gson.toJson(issuesAsJson);
-        File destination = Path.of(System.getProperty("user.dir")).resolve(ISSUES_FILE_PATH).toFile();
-        try (FileWriter writer = new FileWriter(destination, StandardCharsets.UTF_8)) {
-            writer.write(jsonOutput);
+    /**
+     * Returns the sonar-scanner command line for a report, built anew for every run.
+     */
+    private List<String> scannerCommand(Path report) {
+        List<String> command = new ArrayList<>();
+        if (SystemUtils.IS_OS_WINDOWS) {
+            command.add("cmd");
+            command.add("/c");
+        } else {
+            command.add("sh");
+            command.add("-c");
+        }
+        command.add("sonar-scanner");
+        command.add(SCANNER_EXCLUSIONS);
+        command.add("-DanalyzedResultsPath=" + report.toAbsolutePath());
+        String sonarProjectPropertiesPath = platformPluginContext.platformArgs().get(SONAR_PROJECT_PROPERTIES_PATH);
+        if (sonarProjectPropertiesPath != null) {
+            command.add("-Dproject.settings=" + sonarProjectPropertiesPath);
+        }
+        return command;
+    }
+
+    /**
+     * Writes the analysis results report, as a directory of shards when a {@code reportShardSize} platform argument
+     * is given, and returns its path. The other formats given by the {@code outputFormats} platform argument are
+     * written in the same pass over the issues as the single file report.
+     */
+    private Path saveIssues(List<IssueRecord> issueRecords) {
+        Path userDir = Path.of(System.getProperty("user.dir"));
+        int shardSize = reportShardSize();
+        Set<IssueOutputFormat> formats = outputFormats();
+        List<IssueRecord> sortedIssues = IssueReportWriter.sortedByFilePath(issueRecords);
+        try {
+            Path destination;
+            if (shardSize > 0) {
+                destination = userDir.resolve(ISSUES_DIRECTORY_PATH);
+                IssueReportWriter.writeShards(sortedIssues, destination, shardSize);
+                formats.remove(IssueOutputFormat.REPORT);
+            } else {
+                destination = userDir.resolve(ISSUES_FILE_PATH);
+            }
+            IssueOutputFormat.writeAll(sortedIssues, formats, userDir);
+            return destination;
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
+
+    /**
+     * Returns the formats to write the issues in. The analysis results report is always written, as the scanner
+     * reads it.
+     */
+    private Set<IssueOutputFormat> outputFormats() {
+        return IssueOutputFormat.parse(platformPluginContext.platformArgs().get(OUTPUT_FORMATS),
+                formatName -> outputStream.println("Unknown " + OUTPUT_FORMATS + " format '" + formatName
+                        + "', expected one of " + Arrays.stream(IssueOutputFormat.values())
+                        .map(IssueOutputFormat::formatName).toList()));
+    }
+
+    /**
+     * Writes the syntax highlighting and symbols of the scanned files next to the report.
+     * They only enrich the analysis, so the issues are still reported when they cannot be written.
+     */
+    private void saveSyntaxData(List<IssueRecord> issues, Path destination) {
+        Set<String> issueFilePaths = new HashSet<>();
+        issues.forEach(issue -> issueFilePaths.add(issue.filePath()));
+        try {
+            SyntaxDataWriter.write(Path.of(System.getProperty("user.dir")), issueFilePaths, destination);
+        } catch (IOException | RuntimeException ex) {
+            outputStream.println("Unable to write the syntax highlighting and symbols: " + ex.getMessage());
+        }
+    }
+
+    private int reportShardSize() {
+        String reportShardSize = platformPluginContext.platformArgs().get(REPORT_SHARD_SIZE);
+        if (reportShardSize == null) {
+            return 0;
+        }
+        if (reportShardSize.trim().matches("[1-9][0-9]{0,8}")) {
+            return Integer.parseInt(reportShardSize.trim());
+        }
+        outputStream.println("Invalid " + REPORT_SHARD_SIZE + " '" + reportShardSize
+                + "', writing the report as a single file");
+        return 0;
+    }
 }
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.compiler.syntax.tree.ChildNodeList;
+import io.ballerina.compiler.syntax.tree.Minutiae;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextRange;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.ballerina.sonar.Constants.BALLERINA_FILE_EXTENSION;
+import static io.ballerina.sonar.Constants.BALLERINA_TOML;
+import static io.ballerina.sonar.Constants.BUILD_TARGET_DIRECTORY;
+import static io.ballerina.sonar.Constants.FILE_PATH;
+import static io.ballerina.sonar.Constants.HIGHLIGHTING;
+import static io.ballerina.sonar.Constants.HIGHLIGHT_ANNOTATION;
+import static io.ballerina.sonar.Constants.HIGHLIGHT_COMMENT;
+import static io.ballerina.sonar.Constants.HIGHLIGHT_CONSTANT;
+import static io.ballerina.sonar.Constants.HIGHLIGHT_KEYWORD;
+import static io.ballerina.sonar.Constants.HIGHLIGHT_STRING;
+import static io.ballerina.sonar.Constants.HIGHLIGHT_STRUCTURED_COMMENT;
+import static io.ballerina.sonar.Constants.SYMBOLS;
+
+/**
+ * Writes the syntax highlighting and the symbols of the Ballerina files of a project, for the sensor to save along
+ * with the issues.
+ * Each file is parsed with the Ballerina parser and its tokens are classified from their syntax kind and their
+ * parents in the syntax tree. Symbols are the local variables and parameters of a function, and the module level
+ * functions, constants and variables, referenced by simple names in the file. Ranges are written as flat arrays of
+ * zero-based {@code startLine, startLineOffset, endLine, endLineOffset} quadruples, per highlighting type and per
+ * symbol, the declaration of a symbol coming first.
+ *
+ * @since 0.2.0
+ */
+final class SyntaxDataWriter {
+    private static final Set<SyntaxKind> STRING_KINDS = EnumSet.of(SyntaxKind.STRING_LITERAL_TOKEN,
+            SyntaxKind.TEMPLATE_STRING);
+    private static final Set<SyntaxKind> NUMERIC_KINDS = EnumSet.of(SyntaxKind.DECIMAL_INTEGER_LITERAL_TOKEN,
+            SyntaxKind.HEX_INTEGER_LITERAL_TOKEN, SyntaxKind.DECIMAL_FLOATING_POINT_LITERAL_TOKEN,
+            SyntaxKind.HEX_FLOATING_POINT_LITERAL_TOKEN);
+    private static final Set<SyntaxKind> FUNCTION_KINDS = EnumSet.of(SyntaxKind.FUNCTION_DEFINITION,
+            SyntaxKind.OBJECT_METHOD_DEFINITION, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
+    private static final Set<SyntaxKind> VARIABLE_DECLARATION_KINDS = EnumSet.of(SyntaxKind.CAPTURE_BINDING_PATTERN,
+            SyntaxKind.REQUIRED_PARAM, SyntaxKind.DEFAULTABLE_PARAM, SyntaxKind.REST_PARAM,
+            SyntaxKind.INCLUDED_RECORD_PARAM);
+    private static final String KEYWORD_SUFFIX = "_KEYWORD";
+
+    private SyntaxDataWriter() {
+    }
+
+    /**
+     * Writes the syntax data of the Ballerina files of the scanned packages and of the files with issues.
+     * Files are parsed in parallel and written in path order.
+     *
+     * @param projectDir     directory the scan is run from
+     * @param issueFilePaths paths of the files with issues, relative to the project directory or absolute
+     * @param destination    path of the syntax data file
+     * @throws IOException if a file cannot be read or the syntax data cannot be written
+     */
+    static void write(Path projectDir, Collection<String> issueFilePaths, Path destination) throws IOException {
+        Set<Path> sourceFiles = sourceFiles(projectDir, issueFilePaths);
+        Gson gson = new Gson();
+        try (Writer writer = Files.newBufferedWriter(destination, StandardCharsets.UTF_8);
+             JsonWriter jsonWriter = new JsonWriter(writer)) {
+            jsonWriter.beginArray();
+            sourceFiles.parallelStream().map(SyntaxDataWriter::syntaxData).forEachOrdered(fileData ->
+                    gson.toJson(fileData, jsonWriter));
+            jsonWriter.endArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the Ballerina files to parse, in path order: the files of the packages scanned from the project
+     * directory and the files with issues. A directory of standalone files is not walked, as every standalone file
+     * is scanned on its own.
+     */
+    static Set<Path> sourceFiles(Path projectDir, Collection<String> issueFilePaths) throws IOException {
+        Path absoluteProjectDir = projectDir.toAbsolutePath().normalize();
+        Set<Path> sourceFiles = new TreeSet<>();
+        for (Path packageRoot : BallerinaPackages.packageRoots(absoluteProjectDir)) {
+            if (Files.isDirectory(packageRoot)) {
+                Files.walkFileTree(packageRoot, new PackageFileVisitor(packageRoot, sourceFiles));
+            }
+        }
+        for (String issueFilePath : issueFilePaths) {
+            Path sourceFile = absoluteProjectDir.resolve(issueFilePath).normalize();
+            if (isBallerinaFile(sourceFile) && Files.isRegularFile(sourceFile)) {
+                sourceFiles.add(sourceFile);
+            }
+        }
+        return sourceFiles;
+    }
+
+    private static boolean isBallerinaFile(Path path) {
+        Path fileName = path.getFileName();
+        return fileName != null && fileName.toString().endsWith(BALLERINA_FILE_EXTENSION);
+    }
+
+    /**
+     * Collects the Ballerina files of a package, skipping its {@code target} directory, hidden directories and
+     * nested packages, which are scanned on their own.
+     */
+    private static final class PackageFileVisitor extends SimpleFileVisitor<Path> {
+        private final Path packageRoot;
+        private final Set<Path> sourceFiles;
+
+        private PackageFileVisitor(Path packageRoot, Set<Path> sourceFiles) {
+            this.packageRoot = packageRoot;
+            this.sourceFiles = sourceFiles;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+            if (directory.equals(packageRoot)) {
+                return FileVisitResult.CONTINUE;
+            }
+            String name = directory.getFileName().toString();
+            if (name.startsWith(".") || directory.equals(packageRoot.resolve(BUILD_TARGET_DIRECTORY))
+                    || Files.exists(directory.resolve(BALLERINA_TOML))) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            if (attributes.isRegularFile() && isBallerinaFile(file)) {
+                sourceFiles.add(file);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    private static JsonObject syntaxData(Path sourceFile) {
+        String source;
+        try {
+            source = Files.readString(sourceFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TextDocument textDocument = TextDocuments.from(source);
+        ModulePartNode rootNode = SyntaxTree.from(textDocument).rootNode();
+        Map<String, JsonArray> highlighting = new LinkedHashMap<>();
+        List<Token> identifiers = new ArrayList<>();
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(rootNode);
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            if (node instanceof Token token) {
+                highlight(token, textDocument, highlighting, identifiers);
+            } else if (node instanceof NonTerminalNode nonTerminalNode) {
+                ChildNodeList children = nonTerminalNode.children();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    Node child = children.get(i);
+                    if (child != null) {
+                        nodes.push(child);
+                    }
+                }
+            }
+        }
+
+        JsonObject fileData = new JsonObject();
+        fileData.addProperty(FILE_PATH, sourceFile.toAbsolutePath().toString());
+        JsonObject highlightingAsJson = new JsonObject();
+        highlighting.forEach(highlightingAsJson::add);
+        fileData.add(HIGHLIGHTING, highlightingAsJson);
+        fileData.add(SYMBOLS, symbols(identifiers));
+        return fileData;
+    }
+
+    private static void highlight(Token token, TextDocument textDocument, Map<String, JsonArray> highlighting,
+                                  List<Token> identifiers) {
+        for (Minutiae minutiae : token.leadingMinutiae()) {
+            highlightComment(minutiae, textDocument, highlighting);
+        }
+        if (!token.isMissing()) {
+            String type = highlightType(token);
+            if (type != null) {
+                addRange(highlighting.computeIfAbsent(type, key -> new JsonArray()), token.lineRange());
+            }
+            if (token.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+                identifiers.add(token);
+            }
+        }
+        for (Minutiae minutiae : token.trailingMinutiae()) {
+            highlightComment(minutiae, textDocument, highlighting);
+        }
+    }
+
+    private static void highlightComment(Minutiae minutiae, TextDocument textDocument,
+                                         Map<String, JsonArray> highlighting) {
+        if (minutiae.kind() != SyntaxKind.COMMENT_MINUTIAE) {
+            return;
+        }
+        TextRange textRange = minutiae.textRange();
+        JsonArray ranges = highlighting.computeIfAbsent(HIGHLIGHT_COMMENT, key -> new JsonArray());
+        addPosition(ranges, textDocument.linePositionFrom(textRange.startOffset()));
+        addPosition(ranges, textDocument.linePositionFrom(textRange.endOffset()));
+    }
+
+    private static String highlightType(Token token) {
+        SyntaxKind kind = token.kind();
+        if (hasAncestor(token, SyntaxKind.MARKDOWN_DOCUMENTATION)) {
+            return HIGHLIGHT_STRUCTURED_COMMENT;
+        }
+        if (isAnnotationReference(token)) {
+            return HIGHLIGHT_ANNOTATION;
+        }
+        if (kind.name().endsWith(KEYWORD_SUFFIX)) {
+            return HIGHLIGHT_KEYWORD;
+        }
+        if (STRING_KINDS.contains(kind)) {
+            return HIGHLIGHT_STRING;
+        }
+        if (NUMERIC_KINDS.contains(kind)) {
+            return HIGHLIGHT_CONSTANT;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether a token is the {@code @} or a part of the name of an annotation.
+     */
+    private static boolean isAnnotationReference(Token token) {
+        NonTerminalNode parent = token.parent();
+        if (parent == null) {
+            return false;
+        }
+        if (parent.kind() == SyntaxKind.ANNOTATION) {
+            return true;
+        }
+        return (parent.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE
+                || parent.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE)
+                && parent.parent() != null && parent.parent().kind() == SyntaxKind.ANNOTATION;
+    }
+
+    /**
+     * Resolves the simple name references of a file to the declarations of its functions and module.
+     * Ballerina does not allow a local variable to shadow another one of its function, so a name declared in a
+     * function denotes one variable from its declaration on, and the module level declarations otherwise.
+     */
+    private static JsonArray symbols(List<Token> identifiers) {
+        Map<String, JsonArray> moduleSymbols = new HashMap<>();
+        List<JsonArray> symbols = new ArrayList<>();
+        for (Token identifier : identifiers) {
+            if (isModuleDeclaration(identifier) && !moduleSymbols.containsKey(identifier.text())) {
+                JsonArray symbol = symbol(identifier);
+                moduleSymbols.put(identifier.text(), symbol);
+                symbols.add(symbol);
+            }
+        }
+        Map<Node, Map<String, JsonArray>> functionSymbols = new HashMap<>();
+        for (Token identifier : identifiers) {
+            SyntaxKind parentKind = identifier.parent().kind();
+            Node function = enclosingFunction(identifier);
+            if (VARIABLE_DECLARATION_KINDS.contains(parentKind) && function != null) {
+                JsonArray symbol = symbol(identifier);
+                functionSymbols.computeIfAbsent(function, key -> new HashMap<>()).put(identifier.text(), symbol);
+                symbols.add(symbol);
+            } else if (parentKind == SyntaxKind.SIMPLE_NAME_REFERENCE) {
+                JsonArray symbol = function == null ? null
+                        : functionSymbols.getOrDefault(function, Map.of()).get(identifier.text());
+                if (symbol == null) {
+                    symbol = moduleSymbols.get(identifier.text());
+                }
+                if (symbol != null) {
+                    addRange(symbol, identifier.lineRange());
+                }
+            }
+        }
+        JsonArray symbolsAsJson = new JsonArray();
+        symbols.forEach(symbolsAsJson::add);
+        return symbolsAsJson;
+    }
+
+    private static boolean isModuleDeclaration(Token identifier) {
+        NonTerminalNode parent = identifier.parent();
+        return switch (parent.kind()) {
+            case CONST_DECLARATION -> true;
+            case FUNCTION_DEFINITION -> parent.parent() != null && parent.parent().kind() == SyntaxKind.MODULE_PART;
+            case CAPTURE_BINDING_PATTERN -> enclosingFunction(identifier) == null;
+            default -> false;
+        };
+    }
+
+    private static JsonArray symbol(Token declaration) {
+        JsonArray symbol = new JsonArray();
+        addRange(symbol, declaration.lineRange());
+        return symbol;
+    }
+
+    private static Node enclosingFunction(Token token) {
+        for (NonTerminalNode node = token.parent(); node != null; node = node.parent()) {
+            if (FUNCTION_KINDS.contains(node.kind())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAncestor(Token token, SyntaxKind kind) {
+        for (NonTerminalNode node = token.parent(); node != null; node = node.parent()) {
+            if (node.kind() == kind) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addRange(JsonArray ranges, LineRange lineRange) {
+        addPosition(ranges, lineRange.startLine());
+        addPosition(ranges, lineRange.endLine());
+    }
+
+    private static void addPosition(JsonArray ranges, LinePosition position) {
+        ranges.add(position.line());
+        ranges.add(position.offset());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import sun.misc.Signal;
+import sun.misc.SignalHandler;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tells whether the JVM is shutting down because of a termination signal, such as Ctrl-C or the sensor stopping a
+ * cancelled scan, rather than because the scan tool finished.
+ *
+ * @since 0.2.0
+ */
+final class TerminationSignals {
+    private static final List<String> SIGNAL_NAMES = List.of("INT", "TERM");
+    private static final int SIGNAL_EXIT_CODE_BASE = 128;
+
+    private TerminationSignals() {
+    }
+
+    /**
+     * Records the termination signals received from now on, leaving their handling unchanged.
+     *
+     * @return whether a termination signal was received
+     */
+    static BooleanSupplier watch() {
+        AtomicBoolean received = new AtomicBoolean();
+        for (String signalName : SIGNAL_NAMES) {
+            Signal signal;
+            try {
+                signal = new Signal(signalName);
+            } catch (IllegalArgumentException e) {
+                // The signal does not exist on this platform
+                continue;
+            }
+            RecordingHandler handler = new RecordingHandler(received);
+            try {
+                handler.previous = Signal.handle(signal, handler);
+            } catch (IllegalArgumentException e) {
+                // The signal is reserved by the JVM, e.g. when run with -Xrs
+            }
+        }
+        return received::get;
+    }
+
+    private static final class RecordingHandler implements SignalHandler {
+        private final AtomicBoolean received;
+        private volatile SignalHandler previous;
+
+        private RecordingHandler(AtomicBoolean received) {
+            this.received = received;
+        }
+
+        @Override
+        public void handle(Signal signal) {
+            SignalHandler previousHandler = previous;
+            if (previousHandler == SignalHandler.SIG_IGN) {
+                return;
+            }
+            received.set(true);
+            if (previousHandler == null || previousHandler == SignalHandler.SIG_DFL) {
+                System.exit(SIGNAL_EXIT_CODE_BASE + signal.getNumber());
+            } else {
+                previousHandler.handle(signal);
+            }
+        }
+    }
+}
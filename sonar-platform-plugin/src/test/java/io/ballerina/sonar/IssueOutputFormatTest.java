@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@code IssueOutputFormatTest} contains the tests for the {@link IssueOutputFormat}s issues are written in.
+ *
+ * @since 0.2.0
+ */
+public class IssueOutputFormatTest {
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("issue-output-format");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test that the output formats are parsed and unknown formats are reported")
+    void testParse() {
+        List<String> unknownFormats = new ArrayList<>();
+        Assert.assertEquals(IssueOutputFormat.parse(null, unknownFormats::add), Set.of(IssueOutputFormat.REPORT));
+        Assert.assertEquals(IssueOutputFormat.parse(" SARIF, generic,,html ", unknownFormats::add),
+                EnumSet.allOf(IssueOutputFormat.class));
+        Assert.assertEquals(unknownFormats, List.of("html"));
+    }
+
+    @Test(description = "Test that issues are written in the generic issue import format")
+    void testGenericFormat() throws IOException {
+        Path directory = Files.createDirectory(testDirectory.resolve("generic-format"));
+        Path mainFile = directory.resolve("main.bal");
+        IssueOutputFormat.writeAll(List.of(
+                new IssueRecord(2, 4, 3, 1, "ballerina:1", "Avoid checkpanic", "CODE_SMELL", "BUILT_IN",
+                        "main.bal", mainFile.toString()),
+                new IssueRecord(5, 7, 5, 7, "org/example:2", "Empty range", "VULNERABILITY", "EXTERNAL",
+                        "main.bal", mainFile.toString())), EnumSet.of(IssueOutputFormat.GENERIC), directory);
+
+        JsonArray issues = readJson(directory.resolve("ballerina-generic-issues.json")).getAsJsonArray("issues");
+        Assert.assertEquals(issues.size(), 2);
+        JsonObject builtInIssue = issues.get(0).getAsJsonObject();
+        Assert.assertEquals(builtInIssue.get("engineId").getAsString(), "ballerina");
+        Assert.assertEquals(builtInIssue.get("ruleId").getAsString(), "ballerina:1");
+        Assert.assertEquals(builtInIssue.get("severity").getAsString(), "MAJOR");
+        Assert.assertEquals(builtInIssue.get("type").getAsString(), "CODE_SMELL");
+        JsonObject primaryLocation = builtInIssue.getAsJsonObject("primaryLocation");
+        Assert.assertEquals(primaryLocation.get("message").getAsString(), "Avoid checkpanic");
+        Assert.assertEquals(primaryLocation.get("filePath").getAsString(), mainFile.toString());
+        Assert.assertEquals(primaryLocation.getAsJsonObject("textRange"), JsonParser.parseString(
+                "{\"startLine\": 3, \"endLine\": 4, \"startColumn\": 4, \"endColumn\": 1}"));
+
+        JsonObject externalIssue = issues.get(1).getAsJsonObject();
+        Assert.assertEquals(externalIssue.get("engineId").getAsString(), "ballerina_external_analyzer");
+        Assert.assertEquals(externalIssue.get("type").getAsString(), "VULNERABILITY");
+        Assert.assertEquals(externalIssue.getAsJsonObject("primaryLocation").getAsJsonObject("textRange"),
+                JsonParser.parseString("{\"startLine\": 6, \"endLine\": 6}"));
+    }
+
+    @Test(description = "Test that issues are written as a SARIF log with one-based columns and relative locations")
+    void testSarifFormat() throws IOException {
+        Path directory = Files.createDirectory(testDirectory.resolve("sarif-format")).toAbsolutePath();
+        Path moduleFile = directory.resolve("modules").resolve("my utils").resolve("utils.bal");
+        IssueOutputFormat.writeAll(List.of(
+                new IssueRecord(0, 0, 0, 9, "ballerina:1", "Avoid checkpanic", "CODE_SMELL", "BUILT_IN",
+                        "utils.bal", moduleFile.toString()),
+                new IssueRecord(4, 2, 6, 3, "ballerina:2", "Unsafe call", "BUG", "BUILT_IN",
+                        "utils.bal", moduleFile.toString()),
+                new IssueRecord(7, 0, 7, 1, "ballerina:1", "Avoid checkpanic", "CODE_SMELL", "BUILT_IN",
+                        "utils.bal", moduleFile.toString())), EnumSet.of(IssueOutputFormat.SARIF), directory);
+
+        JsonObject sarif = readJson(directory.resolve("ballerina-scan-results.sarif"));
+        Assert.assertEquals(sarif.get("version").getAsString(), "2.1.0");
+        JsonObject run = sarif.getAsJsonArray("runs").get(0).getAsJsonObject();
+        Assert.assertEquals(run.getAsJsonObject("originalUriBaseIds").getAsJsonObject("%SRCROOT%").get("uri")
+                .getAsString(), directory.toUri().toString());
+
+        JsonArray results = run.getAsJsonArray("results");
+        Assert.assertEquals(results.size(), 3);
+        JsonObject bug = results.get(1).getAsJsonObject();
+        Assert.assertEquals(bug.get("ruleId").getAsString(), "ballerina:2");
+        Assert.assertEquals(bug.get("level").getAsString(), "error");
+        Assert.assertEquals(results.get(0).getAsJsonObject().get("level").getAsString(), "warning");
+        JsonObject physicalLocation = bug.getAsJsonArray("locations").get(0).getAsJsonObject()
+                .getAsJsonObject("physicalLocation");
+        Assert.assertEquals(physicalLocation.getAsJsonObject("artifactLocation"), JsonParser.parseString(
+                "{\"uri\": \"modules/my%20utils/utils.bal\", \"uriBaseId\": \"%SRCROOT%\"}"));
+        Assert.assertEquals(physicalLocation.getAsJsonObject("region"), JsonParser.parseString(
+                "{\"startLine\": 5, \"startColumn\": 3, \"endLine\": 7, \"endColumn\": 4}"));
+
+        JsonArray rules = run.getAsJsonObject("tool").getAsJsonObject("driver").getAsJsonArray("rules");
+        Assert.assertEquals(rules, JsonParser.parseString("""
+                [{"id": "ballerina:1", "shortDescription": {"text": "Avoid checkpanic"}},
+                 {"id": "ballerina:2", "shortDescription": {"text": "Unsafe call"}}]
+                """));
+    }
+
+    @Test(description = "Test that a failure to write an issue is thrown with the failures to close the writers")
+    void testWriteFailure() throws IOException {
+        Path directory = Files.createDirectory(testDirectory.resolve("failed-format"));
+        // The generic issue writer fails in the middle of an issue without a rule kind
+        IssueRecord issue = new IssueRecord(0, 0, 0, 1, "ballerina:1", "Avoid checkpanic", null, "BUILT_IN",
+                "main.bal", directory.resolve("main.bal").toString());
+
+        NullPointerException failure = Assert.expectThrows(NullPointerException.class, () ->
+                IssueOutputFormat.writeAll(List.of(issue), EnumSet.allOf(IssueOutputFormat.class), directory));
+        Assert.assertEquals(failure.getSuppressed().length, 1);
+        Assert.assertTrue(failure.getSuppressed()[0] instanceof IllegalStateException);
+    }
+
+    private static JsonObject readJson(Path file) throws IOException {
+        return JsonParser.parseString(Files.readString(file)).getAsJsonObject();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@code IssueReportWriterTest} contains the tests for the analysis results report written by the
+ * {@link IssueReportWriter}.
+ *
+ * @since 0.2.0
+ */
+public class IssueReportWriterTest {
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("issue-report-writer");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test that the sharded report holds consecutive runs of the sorted issues with a manifest")
+    void testWriteShards() throws IOException {
+        Path directory = Files.createDirectory(testDirectory.resolve("report-shards"));
+        Files.writeString(directory.resolve("shard-00009.json"), "[]");
+        List<IssueRecord> issues = new ArrayList<>();
+        for (int i = 4; i >= 0; i--) {
+            issues.add(new IssueRecord(i, 0, i, 1, "ballerina:1", "Issue " + i, "CODE_SMELL", "BUILT_IN",
+                    "file" + i + ".bal", "/project/file" + i + ".bal"));
+        }
+
+        IssueReportWriter.writeShards(IssueReportWriter.sortedByFilePath(issues), directory, 2);
+
+        JsonObject manifest = JsonParser.parseString(Files.readString(directory.resolve("manifest.json")))
+                .getAsJsonObject();
+        Assert.assertEquals(manifest, JsonParser.parseString("""
+                {"version": 1, "issueCount": 5, "shards": [
+                    {"path": "shard-00000.json", "issueCount": 2},
+                    {"path": "shard-00001.json", "issueCount": 2},
+                    {"path": "shard-00002.json", "issueCount": 1}]}
+                """));
+        Assert.assertFalse(Files.exists(directory.resolve("shard-00009.json")));
+
+        List<String> filePaths = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++) {
+            JsonArray shardIssues = JsonParser.parseString(Files.readString(
+                    directory.resolve(String.format("shard-%05d.json", shard)))).getAsJsonArray();
+            shardIssues.forEach(issue -> filePaths.add(issue.getAsJsonObject().get("filePath").getAsString()));
+        }
+        Assert.assertEquals(filePaths, List.of("/project/file0.bal", "/project/file1.bal", "/project/file2.bal",
+                "/project/file3.bal", "/project/file4.bal"));
+    }
+}
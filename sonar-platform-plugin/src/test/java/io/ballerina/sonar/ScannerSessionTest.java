@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code ScannerSessionTest} contains the tests for the {@link ScannerSession}.
+ *
+ * @since 0.2.0
+ */
+public class ScannerSessionTest {
+    private static final IssueRecord FIRST_ISSUE = new IssueRecord(0, 0, 0, 5, "ballerina:1", "First issue",
+            "CODE_SMELL", "BUILT_IN", "first.bal", "/project/first/first.bal");
+    private static final IssueRecord SECOND_ISSUE = new IssueRecord(1, 2, 1, 8, "ballerina:2", "Second issue",
+            "BUG", "BUILT_IN", "second.bal", "/project/second/second.bal");
+
+    @Test(description = "Test that the issues of all the expected scans are reported together after the last scan")
+    void testReportAfterLastScan() {
+        List<List<IssueRecord>> reports = new ArrayList<>();
+        ScannerSession session = new ScannerSession(2, reports::add);
+
+        Assert.assertFalse(session.add(List.of(FIRST_ISSUE)));
+        Assert.assertTrue(reports.isEmpty());
+        Assert.assertTrue(session.add(List.of(SECOND_ISSUE)));
+        Assert.assertEquals(session.scans(), 2);
+        Assert.assertEquals(reports, List.of(List.of(FIRST_ISSUE, SECOND_ISSUE)));
+    }
+
+    @Test(description = "Test that a scan without issues is reported")
+    void testReportScanWithoutIssues() {
+        List<List<IssueRecord>> reports = new ArrayList<>();
+        ScannerSession session = new ScannerSession(1, reports::add);
+
+        Assert.assertTrue(session.add(List.of()));
+        Assert.assertEquals(reports, List.of(List.of()));
+    }
+
+    @Test(description = "Test that a failure to report is thrown to the last scan")
+    void testReportFailure() {
+        ScannerSession session = new ScannerSession(1, issues -> {
+            throw new UncheckedIOException(new IOException("disk full"));
+        });
+
+        Assert.assertThrows(UncheckedIOException.class, () -> session.add(List.of(FIRST_ISSUE)));
+        Assert.assertTrue(session.unreportedIssues().isEmpty());
+    }
+
+    @Test(description = "Test that a scan beyond the expected ones reports the issues of every scan again")
+    void testAddAfterReport() {
+        List<List<IssueRecord>> reports = new ArrayList<>();
+        ScannerSession session = new ScannerSession(1, reports::add);
+
+        Assert.assertTrue(session.add(List.of(FIRST_ISSUE)));
+        Assert.assertTrue(session.add(List.of(SECOND_ISSUE)));
+        Assert.assertEquals(reports, List.of(List.of(FIRST_ISSUE), List.of(FIRST_ISSUE, SECOND_ISSUE)));
+        Assert.assertTrue(session.unreportedIssues().isEmpty());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ScannerSession(0, issues -> {
+        }));
+    }
+
+    @Test(description = "Test that the issues of fewer scans than expected are left to be flushed")
+    void testUnreportedIssues() {
+        List<List<IssueRecord>> reports = new ArrayList<>();
+        ScannerSession session = new ScannerSession(3, reports::add);
+
+        Assert.assertTrue(session.unreportedIssues().isEmpty());
+        Assert.assertFalse(session.add(List.of(FIRST_ISSUE)));
+        Assert.assertFalse(session.add(List.of()));
+        Assert.assertEquals(session.unreportedIssues(), Optional.of(List.of(FIRST_ISSUE)));
+        Assert.assertTrue(session.unreportedIssues().isEmpty());
+        Assert.assertTrue(reports.isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.sonar;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@code SyntaxDataWriterTest} contains the tests for the selection of the files parsed by the
+ * {@link SyntaxDataWriter}.
+ *
+ * @since 0.2.0
+ */
+public class SyntaxDataWriterTest {
+    private Path testDirectory;
+
+    @BeforeMethod
+    void createTestDirectory() throws IOException {
+        testDirectory = Files.createTempDirectory("syntax-data-writer");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    void deleteTestDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "Test that the files of the package are selected, without its build output and nested packages")
+    void testSourceFilesOfPackage() throws IOException {
+        Path packageRoot = Files.createDirectory(testDirectory.resolve("package")).toRealPath();
+        Files.writeString(packageRoot.resolve("Ballerina.toml"), "[package]\n");
+        Path mainFile = Files.writeString(packageRoot.resolve("main.bal"), "");
+        Path moduleFile = Files.writeString(Files.createDirectories(packageRoot.resolve("modules/utils"))
+                .resolve("utils.bal"), "");
+        Files.writeString(packageRoot.resolve("README.md"), "");
+        Files.writeString(Files.createDirectories(packageRoot.resolve("target")).resolve("cached.bal"), "");
+        Files.writeString(Files.createDirectories(packageRoot.resolve(".hidden")).resolve("hidden.bal"), "");
+        Path nestedPackage = Files.createDirectories(packageRoot.resolve("examples/nested"));
+        Files.writeString(nestedPackage.resolve("Ballerina.toml"), "[package]\n");
+        Files.writeString(nestedPackage.resolve("nested.bal"), "");
+
+        Set<Path> sourceFiles = SyntaxDataWriter.sourceFiles(packageRoot, List.of(mainFile.toString()));
+        Assert.assertEquals(List.copyOf(sourceFiles), List.of(mainFile, moduleFile));
+    }
+
+    @Test(description = "Test that only the files with issues are selected from a directory of standalone files")
+    void testSourceFilesOfStandaloneFiles() throws IOException {
+        Path directory = Files.createDirectory(testDirectory.resolve("standalone")).toRealPath();
+        Path scannedFile = Files.writeString(directory.resolve("scanned.bal"), "");
+        Files.writeString(directory.resolve("other.bal"), "");
+        Files.writeString(Files.createDirectories(directory.resolve("nested")).resolve("nested.bal"), "");
+
+        Set<Path> sourceFiles = SyntaxDataWriter.sourceFiles(directory, List.of("scanned.bal", "scanned.bal",
+                "missing.bal", directory.resolve("other.txt").toString()));
+        Assert.assertEquals(List.copyOf(sourceFiles), List.of(scannedFile));
+    }
+
+    @Test(description = "Test that the files of the packages of a workspace are selected")
+    void testSourceFilesOfWorkspace() throws IOException {
+        Path workspace = Files.createDirectory(testDirectory.resolve("workspace")).toRealPath();
+        Files.writeString(workspace.resolve("Ballerina.toml"), """
+                [workspace]
+                packages = [
+                    "first",   # the first package
+                    "second"
+                ]
+                """);
+        Path firstFile = Files.writeString(Files.createDirectories(workspace.resolve("first")).resolve("first.bal"),
+                "");
+        Path secondFile = Files.writeString(Files.createDirectories(workspace.resolve("second"))
+                .resolve("second.bal"), "");
+        Files.writeString(Files.createDirectories(workspace.resolve("unlisted")).resolve("unlisted.bal"), "");
+
+        Assert.assertEquals(BallerinaPackages.packageRoots(workspace),
+                List.of(workspace.resolve("first"), workspace.resolve("second")));
+        Set<Path> sourceFiles = SyntaxDataWriter.sourceFiles(workspace, List.of());
+        Assert.assertEquals(List.copyOf(sourceFiles), List.of(firstFile, secondFile));
+    }
+}